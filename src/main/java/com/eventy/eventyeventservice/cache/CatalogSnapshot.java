@@ -0,0 +1,144 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.dto.CatalogSnapshotStatsResponse;
+import com.eventy.eventyeventservice.dto.CursorPage;
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.service.EventService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pre-serialized first page of the unfiltered GET /events, the most requested URL.
+ * <p>
+ * A single scheduled task rebuilds the page when a committed change was signalled, or when it reaches its
+ * maximum age (to catch writes made by other instances). Requests never wait for a rebuild: they get the last
+ * good page, whose age is sent in the {@code Age} header. A page older than the maximum staleness, after
+ * repeated rebuild failures, is no longer served and requests fall back to the regular search.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshot {
+
+    private final EventService eventService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${eventy.catalog-snapshot.enabled:true}")
+    private boolean enabled = true;
+
+    // Âge à partir duquel la page est reconstruite même sans changement signalé
+    @Value("${eventy.catalog-snapshot.max-age:PT30S}")
+    private Duration maxAge = Duration.ofSeconds(30);
+
+    // Au-delà, la page n'est plus servie
+    @Value("${eventy.catalog-snapshot.max-stale:PT5M}")
+    private Duration maxStale = Duration.ofMinutes(5);
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong builds = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile Page current;
+
+    // Remplaçable dans les tests
+    Clock clock = Clock.systemUTC();
+
+    public CatalogSnapshot(EventService eventService, ObjectMapper objectMapper) {
+        this.eventService = eventService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Page items, serialized once, with the next cursor (null on the last page)
+     */
+    public record Page(PreSerializedList<EventResponse> items, String nextCursor, Instant builtAt) {
+    }
+
+    /**
+     * Last good page, or empty when there is none fresh enough to serve
+     */
+    public Optional<Page> current() {
+        Page page = current;
+        if (!enabled || page == null || age(page).compareTo(maxStale) > 0) {
+            return Optional.empty();
+        }
+        served.incrementAndGet();
+        return Optional.of(page);
+    }
+
+    /**
+     * Whole seconds since the page was built, as sent in the {@code Age} header
+     */
+    public long ageSeconds(Page page) {
+        return Math.max(0, age(page).toSeconds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        dirty.set(true);
+    }
+
+    // Le nombre de favoris fait partie de la page
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        dirty.set(true);
+    }
+
+    /**
+     * Rebuild the page if a change was signalled or if it is too old. The signals received while building are
+     * kept for the next run, so a change is never missed.
+     */
+    @Scheduled(fixedDelayString = "${eventy.catalog-snapshot.refresh-interval:PT1S}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Page page = current;
+        if (!dirty.getAndSet(false) && page != null && age(page).compareTo(maxAge) < 0) {
+            return;
+        }
+        try {
+            Instant builtAt = clock.instant();
+            CursorPage<EventResponse> first = eventService.getAvailableEventsPage(null, null, null,
+                    null, null, Sort.Direction.ASC);
+            PreSerializedList<EventResponse> items = new PreSerializedList<>(first.getItems(),
+                    objectMapper.writeValueAsBytes(first.getItems()));
+            current = new Page(items, first.getNextCursor(), builtAt);
+            builds.incrementAndGet();
+        } catch (Exception e) {
+            // La page précédente reste servie jusqu'à maxStale
+            dirty.set(true);
+            failures.incrementAndGet();
+            log.warn("Catalog snapshot rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    public CatalogSnapshotStatsResponse stats() {
+        Page page = current;
+        return CatalogSnapshotStatsResponse.builder()
+                .enabled(enabled)
+                .ageSeconds(page != null ? ageSeconds(page) : null)
+                .sizeBytes(page != null ? page.items().json().length : 0)
+                .servedCount(served.get())
+                .buildCount(builds.get())
+                .failureCount(failures.get())
+                .build();
+    }
+
+    private Duration age(Page page) {
+        return Duration.between(page.builtAt(), clock.instant());
+    }
+}
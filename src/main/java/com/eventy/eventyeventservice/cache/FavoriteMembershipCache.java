@@ -0,0 +1,120 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.index.EventIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user sets of favorited event IDs, kept for users whose whole favorites list was recently loaded.
+ * <p>
+ * Warm sets are updated in place (copy-on-write) by committed favorite changes and lose the events deleted
+ * from the catalog. They expire after a while to pick up writes made by other instances. A generation counter
+ * prevents a load that started before a change from caching its stale result afterwards.
+ */
+@Component
+public class FavoriteMembershipCache implements EventIndex {
+
+    private final Cache<UUID, Set<UUID>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${eventy.favorites.cache.enabled:true}")
+    private boolean enabled = true;
+
+    public FavoriteMembershipCache(@Value("${eventy.favorites.cache.max-ids:200000}") long maxIds,
+                                   @Value("${eventy.favorites.cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((UUID userId, Set<UUID> eventIds) -> eventIds.size() + 1)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Favorited event IDs of the user, or null when the user has no warm set
+     */
+    public Set<UUID> getIfPresent(UUID userId) {
+        return enabled ? cache.getIfPresent(userId) : null;
+    }
+
+    /**
+     * Current generation, to read before loading the favorites that will be {@link #put}
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Store the user's complete list of favorited events unless a change was applied since {@code loadGeneration}
+     */
+    public void put(UUID userId, Collection<UUID> eventIds, long loadGeneration) {
+        if (!enabled || generation.get() != loadGeneration) {
+            return;
+        }
+        cache.put(userId, Set.copyOf(eventIds));
+        // Un changement appliqué entre le contrôle et l'insertion aurait pu manquer ce jeu
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(userId);
+        }
+    }
+
+    /**
+     * Applied after commit only, so that rolled back writes never reach the cache
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        generation.incrementAndGet();
+        cache.asMap().computeIfPresent(change.userId(), (userId, eventIds) -> {
+            Set<UUID> updated = new HashSet<>(eventIds);
+            if (change.type() == FavoriteChange.Type.ADDED) {
+                updated.add(change.eventId());
+            } else {
+                updated.remove(change.eventId());
+            }
+            return Set.copyOf(updated);
+        });
+    }
+
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Deleting an event cascades to its favorites: drop it from every warm set
+     */
+    @Override
+    public void apply(EventChange change) {
+        if (change.type() != EventChange.Type.DELETED) {
+            return;
+        }
+        generation.incrementAndGet();
+        cache.asMap().replaceAll((userId, eventIds) -> {
+            if (!eventIds.contains(change.eventId())) {
+                return eventIds;
+            }
+            Set<UUID> updated = new HashSet<>(eventIds);
+            updated.remove(change.eventId());
+            return Set.copyOf(updated);
+        });
+    }
+}
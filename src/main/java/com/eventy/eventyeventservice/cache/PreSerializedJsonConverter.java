@@ -0,0 +1,49 @@
+package com.eventy.eventyeventservice.cache;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link PreSerializedList} response body from its stored JSON, without serializing the items again.
+ * Registered as a bean, it is placed before the Jackson converter.
+ */
+@Component
+public class PreSerializedJsonConverter extends AbstractHttpMessageConverter<PreSerializedList<?>> {
+
+    public PreSerializedJsonConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreSerializedList.class.isAssignableFrom(clazz);
+    }
+
+    // Écriture seule : les corps de requête restent lus par Jackson
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PreSerializedList<?> readInternal(Class<? extends PreSerializedList<?>> clazz,
+                                                HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Pre-serialized lists are write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(PreSerializedList<?> list, MediaType contentType) {
+        return (long) list.json().length;
+    }
+
+    @Override
+    protected void writeInternal(PreSerializedList<?> list, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(list.json());
+    }
+}
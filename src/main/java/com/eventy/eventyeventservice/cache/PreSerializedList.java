@@ -0,0 +1,38 @@
+package com.eventy.eventyeventservice.cache;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Immutable list that also holds its JSON serialization, so that a response body built once can be written
+ * as is by {@link PreSerializedJsonConverter} while the handler keeps its typed return value.
+ *
+ * @param <T> element type
+ */
+public final class PreSerializedList<T> extends AbstractList<T> {
+
+    private final List<T> items;
+    private final byte[] json;
+
+    public PreSerializedList(List<T> items, byte[] json) {
+        this.items = List.copyOf(items);
+        this.json = json;
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * JSON array of the items, in UTF-8
+     */
+    public byte[] json() {
+        return json;
+    }
+}
@@ -0,0 +1,132 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.model.EventCategory;
+import com.eventy.eventyeventservice.model.EventType;
+import com.eventy.eventyeventservice.repository.EventCategoryRepository;
+import com.eventy.eventyeventservice.repository.EventTypeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of the event types and categories (a handful of rows read by every event mapping).
+ * <p>
+ * The snapshot is replaced as a whole (copy-on-write) after each write through the reference data controllers,
+ * periodically to pick up writes made by other instances, and when an unknown ID is looked up.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private final EventTypeRepository eventTypeRepository;
+    private final EventCategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+    private long version;
+
+    public ReferenceDataCache(EventTypeRepository eventTypeRepository, EventCategoryRepository categoryRepository) {
+        this.eventTypeRepository = eventTypeRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * One consistent version of the reference data. The ETags only depend on the content, so that every
+     * instance of the service returns the same ETag for the same data.
+     */
+    public record Snapshot(long version,
+                           List<EventType> types,
+                           List<EventCategory> categories,
+                           Map<UUID, EventType> typesById,
+                           Map<UUID, EventCategory> categoriesById,
+                           String typesETag,
+                           String categoriesETag) {
+
+        private static Snapshot of(long version, List<EventType> types, List<EventCategory> categories) {
+            List<EventType> sortedTypes = types.stream()
+                    .sorted(Comparator.comparing(EventType::getLabel).thenComparing(EventType::getEventTypeId))
+                    .toList();
+            List<EventCategory> sortedCategories = categories.stream()
+                    .sorted(Comparator.comparing(EventCategory::getLabel).thenComparing(EventCategory::getCategoryId))
+                    .toList();
+            return new Snapshot(version, sortedTypes, sortedCategories,
+                    sortedTypes.stream().collect(Collectors.toUnmodifiableMap(EventType::getEventTypeId, Function.identity())),
+                    sortedCategories.stream().collect(Collectors.toUnmodifiableMap(EventCategory::getCategoryId, Function.identity())),
+                    eTag("types", sortedTypes.stream().map(t -> t.getEventTypeId() + ":" + t.getLabel()).toList()),
+                    eTag("categories", sortedCategories.stream().map(c -> c.getCategoryId() + ":" + c.getLabel()).toList()));
+        }
+
+        private static String eTag(String kind, List<String> entries) {
+            return "\"" + kind + "-" + Integer.toHexString(entries.hashCode()) + "\"";
+        }
+    }
+
+    /**
+     * Current snapshot, loaded on first use
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Reload both tables and swap the snapshot in
+     */
+    public synchronized Snapshot refresh() {
+        Snapshot fresh = Snapshot.of(++version, eventTypeRepository.findAll(), categoryRepository.findAll());
+        snapshot = fresh;
+        return fresh;
+    }
+
+    @Scheduled(fixedDelayString = "${eventy.reference-data.refresh-interval:PT5M}",
+               initialDelayString = "${eventy.reference-data.refresh-interval:PT5M}")
+    public void scheduledRefresh() {
+        refresh();
+        log.debug("Reference data refreshed (version {})", version);
+    }
+
+    /**
+     * Type by ID; an unknown ID triggers a reload in case it was created by another instance
+     */
+    public EventType findType(UUID id) {
+        if (id == null) {
+            return null;
+        }
+        Snapshot seen = snapshot();
+        EventType type = seen.typesById().get(id);
+        return type != null ? type : refreshIfStale(seen).typesById().get(id);
+    }
+
+    /**
+     * Category by ID; an unknown ID triggers a reload in case it was created by another instance
+     */
+    public EventCategory findCategory(UUID id) {
+        if (id == null) {
+            return null;
+        }
+        Snapshot seen = snapshot();
+        EventCategory category = seen.categoriesById().get(id);
+        return category != null ? category : refreshIfStale(seen).categoriesById().get(id);
+    }
+
+    public String typeLabel(UUID id) {
+        EventType type = findType(id);
+        return type != null ? type.getLabel() : null;
+    }
+
+    public String categoryLabel(UUID id) {
+        EventCategory category = findCategory(id);
+        return category != null ? category.getLabel() : null;
+    }
+
+    // Plusieurs requêtes concurrentes sur le même ID inconnu ne déclenchent qu'un rechargement
+    private synchronized Snapshot refreshIfStale(Snapshot seen) {
+        return snapshot != seen ? snapshot : refresh();
+    }
+}
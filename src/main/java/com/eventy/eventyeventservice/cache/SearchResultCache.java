@@ -0,0 +1,180 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.dto.CacheStatsResponse;
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.index.EventIndex;
+import com.eventy.eventyeventservice.index.TextNormalizer;
+import com.eventy.eventyeventservice.model.Event;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of catalog search results, storing event IDs only.
+ * <p>
+ * Eviction is frequency-aware (Caffeine W-TinyLFU) and bounded by the total number of cached IDs.
+ * Fed by the change feed like the in-memory indexes: a change drops only the entries whose filters match the
+ * event before or after the change, or whose result contains it. A generation counter prevents a search that
+ * started before a change from caching its stale result afterwards.
+ */
+@Component
+public class SearchResultCache implements EventIndex {
+
+    // Estimation grossière d'un identifiant en mémoire (UUID + date + références)
+    private static final long BYTES_PER_ID = 64;
+
+    private final Cache<Key, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${eventy.search.cache.enabled:true}")
+    private boolean enabled = true;
+
+    public SearchResultCache(@Value("${eventy.search.cache.max-ids:100000}") long maxIds,
+                             @Value("${eventy.search.cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((Key key, Entry entry) -> entry.ids().size() + 1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Search filters, normalized so that equivalent requests share an entry
+     */
+    public record Key(String keyword, String location, UUID categoryId) {
+
+        public static Key of(String keyword, String location, UUID categoryId) {
+            return new Key(normalize(keyword), normalize(location), categoryId);
+        }
+
+        private static String normalize(String value) {
+            return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Conservative match: may report an event that the search would not return, never the opposite.
+         * The keyword is compared accent-folded, as a substring (LIKE) or as a token prefix (full-text stemming).
+         */
+        boolean mightMatch(EventSnapshot event) {
+            if (event == null || !event.isActive()) {
+                return false;
+            }
+            if (categoryId != null && !categoryId.equals(event.categoryId())) {
+                return false;
+            }
+            if (location != null && !TextNormalizer.fold(event.location()).contains(TextNormalizer.fold(location))) {
+                return false;
+            }
+            return keyword == null
+                    || mightContain(event.name(), keyword)
+                    || mightContain(event.description(), keyword)
+                    || mightContain(event.location(), keyword);
+        }
+
+        private static boolean mightContain(String text, String keyword) {
+            String folded = TextNormalizer.fold(text);
+            if (folded.contains(TextNormalizer.fold(keyword))) {
+                return true;
+            }
+            List<String> tokens = TextNormalizer.tokenize(text);
+            for (String term : TextNormalizer.tokenize(keyword)) {
+                String stem = term.substring(0, Math.min(4, term.length()));
+                if (tokens.stream().anyMatch(token -> token.startsWith(stem))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Cached result: event IDs in result order, with their start dates when the result is a keyset window
+     * (needed to build the next cursor), null for a ranked result
+     */
+    public record Entry(List<UUID> ids, List<LocalDate> startDates) {
+
+        public static Entry ranked(List<Event> events) {
+            return new Entry(events.stream().map(Event::getEventId).toList(), null);
+        }
+
+        public static Entry window(List<EventResponse> events) {
+            return new Entry(events.stream().map(EventResponse::getId).toList(),
+                    events.stream().map(event -> event.getStartDate().toLocalDate()).toList());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Entry getIfPresent(Key key) {
+        return enabled ? cache.getIfPresent(key) : null;
+    }
+
+    /**
+     * Current generation, to read before running the search whose result will be {@link #put}
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Store the result unless a change was applied since {@code loadGeneration}
+     */
+    public void put(Key key, Entry entry, long loadGeneration) {
+        if (!enabled || generation.get() != loadGeneration) {
+            return;
+        }
+        cache.put(key, entry);
+        // Un changement appliqué entre le contrôle et l'insertion aurait pu manquer cette entrée
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void apply(EventChange change) {
+        generation.incrementAndGet();
+        cache.asMap().entrySet().removeIf(cached ->
+                cached.getValue().ids().contains(change.eventId())
+                        || cached.getKey().mightMatch(change.before())
+                        || cached.getKey().mightMatch(change.after()));
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return CacheStatsResponse.builder()
+                .enabled(enabled)
+                .entries(cache.estimatedSize())
+                .cachedIds(weightedSize)
+                .estimatedBytes(weightedSize * BYTES_PER_ID)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .build();
+    }
+}
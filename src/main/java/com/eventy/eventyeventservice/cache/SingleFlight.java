@@ -0,0 +1,93 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.exception.RequestTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: the first caller for a key runs the load, the callers arriving while it
+ * runs wait for it and share its result, or its exception. Nothing is kept once the load is done (this is not a
+ * cache), so a result is never older than the request that asked for it.
+ *
+ * @param <K> key of the read (its parameters)
+ * @param <V> shared result, that callers must not modify
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong shared = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    /**
+     * Run the load, or wait for the same load started by another caller
+     *
+     * @param timeout maximum wait for another caller's load (the caller running the load is not bounded)
+     * @throws RequestTimeoutException when the other caller's load takes longer than the timeout
+     */
+    public V execute(K key, Duration timeout, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+        if (running == null) {
+            return load(key, created, loader);
+        }
+        shared.incrementAndGet();
+        try {
+            return running.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            throw new RequestTimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for an identical request");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestTimeoutException("Interrupted while waiting for an identical request");
+        } catch (ExecutionException e) {
+            // Même exception que l'appelant qui a exécuté la lecture (404, 400...)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private V load(K key, CompletableFuture<V> created, Supplier<V> loader) {
+        loads.incrementAndGet();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Loads actually run
+     */
+    public long loadCount() {
+        return loads.get();
+    }
+
+    /**
+     * Callers served by another caller's load
+     */
+    public long sharedCount() {
+        return shared.get();
+    }
+
+    public long timeoutCount() {
+        return timeouts.get();
+    }
+}
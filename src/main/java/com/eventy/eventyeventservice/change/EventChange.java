@@ -0,0 +1,34 @@
+package com.eventy.eventyeventservice.change;
+
+import java.util.UUID;
+
+/**
+ * Application event published by EventService for every mutation of the catalog.
+ * {@code before} is null for creations (and deletions, where only the ID is known),
+ * {@code after} is null for deletions.
+ */
+public record EventChange(Type type, UUID eventId, EventSnapshot before, EventSnapshot after) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static EventChange created(EventSnapshot after) {
+        return new EventChange(Type.CREATED, after.eventId(), null, after);
+    }
+
+    public static EventChange updated(EventSnapshot before, EventSnapshot after) {
+        return new EventChange(Type.UPDATED, after.eventId(), before, after);
+    }
+
+    public static EventChange statusChanged(EventSnapshot before, EventSnapshot after) {
+        return new EventChange(Type.STATUS_CHANGED, after.eventId(), before, after);
+    }
+
+    public static EventChange deleted(UUID eventId) {
+        return new EventChange(Type.DELETED, eventId, null, null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.eventy.eventyeventservice.change;
+
+import com.eventy.eventyeventservice.model.Event;
+import com.eventy.eventyeventservice.model.EventStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the searchable fields of an event, detached from the persistence context.
+ * Used to feed the in-memory indexes and change notifications.
+ */
+public record EventSnapshot(
+        UUID eventId,
+        String name,
+        String description,
+        String location,
+        Double latitude,
+        Double longitude,
+        UUID categoryId,
+        UUID eventTypeId,
+        EventStatus status,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+
+    public static EventSnapshot from(Event event) {
+        return new EventSnapshot(
+                event.getEventId(),
+                event.getName(),
+                event.getDescription(),
+                event.getLocation(),
+                event.getLatitude(),
+                event.getLongitude(),
+                event.getCategory() != null ? event.getCategory().getCategoryId() : null,
+                event.getEventType() != null ? event.getEventType().getEventTypeId() : null,
+                event.getStatus(),
+                event.getStartDate(),
+                event.getEndDate()
+        );
+    }
+
+    public boolean isActive() {
+        return status == EventStatus.active;
+    }
+
+    public EventSnapshot withStatus(EventStatus newStatus) {
+        return new EventSnapshot(eventId, name, description, location, latitude, longitude, categoryId, eventTypeId,
+                newStatus, startDate, endDate);
+    }
+
+    public EventSnapshot withDates(LocalDate newStartDate, LocalDate newEndDate) {
+        return new EventSnapshot(eventId, name, description, location, latitude, longitude, categoryId, eventTypeId,
+                status, newStartDate, newEndDate);
+    }
+}
@@ -0,0 +1,22 @@
+package com.eventy.eventyeventservice.change;
+
+import java.util.UUID;
+
+/**
+ * Application event published by FavoriteService when a user adds or removes a favorite
+ */
+public record FavoriteChange(Type type, UUID userId, UUID eventId) {
+
+    public enum Type {
+        ADDED,
+        REMOVED
+    }
+
+    public static FavoriteChange added(UUID userId, UUID eventId) {
+        return new FavoriteChange(Type.ADDED, userId, eventId);
+    }
+
+    public static FavoriteChange removed(UUID userId, UUID eventId) {
+        return new FavoriteChange(Type.REMOVED, userId, eventId);
+    }
+}
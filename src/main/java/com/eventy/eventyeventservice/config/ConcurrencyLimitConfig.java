@@ -0,0 +1,32 @@
+package com.eventy.eventyeventservice.config;
+
+import com.eventy.eventyeventservice.limit.AdaptiveConcurrencyLimiter;
+import com.eventy.eventyeventservice.limit.ConcurrencyLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Value("${eventy.concurrency-limit.retry-after:PT1S}")
+    private Duration retryAfter;
+
+    /**
+     * Limiter in front of the catalog and favorite endpoints, before the security chain:
+     * a rejected request costs neither a JWT validation nor a database connection
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limiter, Math.max(1, retryAfter.toSeconds())));
+        registration.addUrlPatterns("/events/*", "/favorites/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setEnabled(limiter.isEnabled());
+        return registration;
+    }
+}
@@ -41,6 +41,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // 1. Documentation & Monitoring (Public)
                         .requestMatchers("/actuator/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/monitoring/**").hasRole("ADMIN")
 
                         // 2. Lecture publique du catalogue (Tout le monde peut voir les événements)
                         .requestMatchers(HttpMethod.GET, "/events/**").permitAll()
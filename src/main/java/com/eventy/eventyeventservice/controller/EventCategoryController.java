@@ -1,12 +1,15 @@
 package com.eventy.eventyeventservice.controller;
 
+import com.eventy.eventyeventservice.cache.ReferenceDataCache;
 import com.eventy.eventyeventservice.model.EventCategory;
 import com.eventy.eventyeventservice.repository.EventCategoryRepository;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,10 +21,15 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class EventCategoryController {
 
+    // Les clients revalident ensuite avec If-None-Match (réponse 304 si le référentiel n'a pas changé)
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
     private final EventCategoryRepository eventCategoryRepository;
+    private final ReferenceDataCache referenceData;
 
-    public EventCategoryController(EventCategoryRepository eventCategoryRepository) {
+    public EventCategoryController(EventCategoryRepository eventCategoryRepository, ReferenceDataCache referenceData) {
         this.eventCategoryRepository = eventCategoryRepository;
+        this.referenceData = referenceData;
     }
 
     /**
@@ -29,7 +37,11 @@ public class EventCategoryController {
      */
     @GetMapping
     public ResponseEntity<List<EventCategory>> getAllEventCategories() {
-        return ResponseEntity.ok(eventCategoryRepository.findAll());
+        ReferenceDataCache.Snapshot snapshot = referenceData.snapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.categoriesETag())
+                .cacheControl(CACHE_CONTROL)
+                .body(snapshot.categories());
     }
 
     /**
@@ -37,9 +49,15 @@ public class EventCategoryController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<EventCategory> getEventCategoryById(@PathVariable UUID id) {
-        return eventCategoryRepository.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        ReferenceDataCache.Snapshot snapshot = referenceData.snapshot();
+        EventCategory eventCategory = snapshot.categoriesById().get(id);
+        if (eventCategory == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.categoriesETag())
+                .cacheControl(CACHE_CONTROL)
+                .body(eventCategory);
     }
 
     /**
@@ -48,6 +66,7 @@ public class EventCategoryController {
     @PostMapping
     public ResponseEntity<EventCategory> createEventCategory(@Valid @RequestBody EventCategory eventCategory) {
         EventCategory savedEventCategory = eventCategoryRepository.save(eventCategory);
+        referenceData.refresh();
         return ResponseEntity.status(HttpStatus.CREATED).body(savedEventCategory);
     }
 
@@ -59,7 +78,9 @@ public class EventCategoryController {
         return eventCategoryRepository.findById(id)
                 .map(existing -> {
                     eventCategory.setCategoryId(id);
-                    return ResponseEntity.ok(eventCategoryRepository.save(eventCategory));
+                    EventCategory saved = eventCategoryRepository.save(eventCategory);
+                    referenceData.refresh();
+                    return ResponseEntity.ok(saved);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -71,6 +92,7 @@ public class EventCategoryController {
     public ResponseEntity<Void> deleteEventCategory(@PathVariable UUID id) {
         if (eventCategoryRepository.existsById(id)) {
             eventCategoryRepository.deleteById(id);
+            referenceData.refresh();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -1,18 +1,45 @@
 package com.eventy.eventyeventservice.controller;
 
+import com.eventy.eventyeventservice.cache.CatalogSnapshot;
+import com.eventy.eventyeventservice.dto.CalendarResponse;
+import com.eventy.eventyeventservice.dto.CursorPage;
+import com.eventy.eventyeventservice.dto.EventChangesResponse;
 import com.eventy.eventyeventservice.dto.EventRequest;
 import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.dto.EventSearchCriteria;
+import com.eventy.eventyeventservice.dto.FacetResponse;
+import com.eventy.eventyeventservice.dto.NearbyEventResponse;
+import com.eventy.eventyeventservice.dto.RecommendedEventResponse;
+import com.eventy.eventyeventservice.dto.SuggestionResponse;
+import com.eventy.eventyeventservice.dto.TrendingEventResponse;
+import com.eventy.eventyeventservice.exception.InvalidCursorException;
+import com.eventy.eventyeventservice.exception.InvalidRequestException;
 import com.eventy.eventyeventservice.model.Event;
 import com.eventy.eventyeventservice.model.EventStatus;
 import com.eventy.eventyeventservice.repository.EventRepository;
+import com.eventy.eventyeventservice.service.EventExportWriter;
 import com.eventy.eventyeventservice.service.EventService;
+import com.eventy.eventyeventservice.service.ExportFormat;
+import com.eventy.eventyeventservice.stream.EventBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,13 +47,34 @@ import java.util.UUID;
  */
 @RestController
 @RequestMapping("/events")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {EventController.NEXT_CURSOR_HEADER, EventController.SEARCH_CORRECTED_HEADER,
+        HttpHeaders.AGE})
 public class EventController {
 
+    /**
+     * Opaque token to pass as {@code cursor} to get the next page (absent on the last page)
+     */
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Keyword actually searched when a fuzzy search corrected it (percent-encoded UTF-8)
+     */
+    static final String SEARCH_CORRECTED_HEADER = "X-Search-Corrected";
+
+    // Nombre maximum d'événements suivis par un abonnement au flux
+    private static final int STREAM_MAX_EVENT_IDS = 500;
+
     private final EventService eventService;
+    private final EventBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+    private final CatalogSnapshot catalogSnapshot;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, EventBroadcaster broadcaster, ObjectMapper objectMapper,
+                           CatalogSnapshot catalogSnapshot) {
         this.eventService = eventService;
+        this.broadcaster = broadcaster;
+        this.objectMapper = objectMapper;
+        this.catalogSnapshot = catalogSnapshot;
     }
 
     /**
@@ -37,33 +85,222 @@ public class EventController {
         return ResponseEntity.ok(eventService.getEventById(id));
     }
 
+    /**
+     * Active upcoming events most often favorited together with this one
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<RecommendedEventResponse>> getSimilarEvents(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.getSimilarEvents(id, limit));
+    }
+
     // AJOUT : Get events by status
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<EventResponse>> getEventsByStatus(@PathVariable EventStatus status) {
-        return ResponseEntity.ok(eventService.getEventsByStatus(status));
+    public ResponseEntity<List<EventResponse>> getEventsByStatus(
+            @PathVariable EventStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return toPageResponse(eventService.getEventsByStatus(status, cursor, size, toDirection(direction)));
     }
 
     // AJOUT : Get events created by a specific user
     @GetMapping("/creator/{creatorId}")
-    public ResponseEntity<List<EventResponse>> getEventsByCreator(@PathVariable UUID creatorId) {
-        return ResponseEntity.ok(eventService.getEventsByCreator(creatorId));
+    public ResponseEntity<List<EventResponse>> getEventsByCreator(
+            @PathVariable UUID creatorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return toPageResponse(eventService.getEventsByCreator(creatorId, cursor, size, toDirection(direction)));
     }
 
     // AJOUT : Get upcoming events
     @GetMapping("/upcoming")
-    public ResponseEntity<List<EventResponse>> getUpcomingEvents() {
-        return ResponseEntity.ok(eventService.getUpcomingEvents());
+    public ResponseEntity<List<EventResponse>> getUpcomingEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return toPageResponse(eventService.getUpcomingEvents(cursor, size, toDirection(direction)));
+    }
+
+    /**
+     * Multi-criteria search, one page at a time (sorted by start date, then ID): keyword, location, one or more
+     * categories, type, status (active by default) and start date range, all optional
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<EventResponse>> searchEvents(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Set<UUID> categoryId,
+            @RequestParam(required = false) UUID typeId,
+            @RequestParam(defaultValue = "active") EventStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "asc") String direction) {
+        EventSearchCriteria criteria = EventSearchCriteria.builder()
+                .keyword(search)
+                .location(location)
+                .categoryIds(categoryId)
+                .eventTypeId(typeId)
+                .status(status)
+                .startFrom(from)
+                .startTo(to)
+                .build();
+        return toPageResponse(eventService.searchEvents(criteria, cursor, size, toDirection(direction)));
     }
 
-    // Dans EventController
+    /**
+     * Search available events, one page at a time (sorted by start date, then ID).
+     * With {@code fuzzy=true}, misspelled words of the search are corrected before searching.
+     * The first page without filters is served from a snapshot refreshed in the background; its age in seconds
+     * is sent in the {@code Age} header.
+     */
     @GetMapping
     public ResponseEntity<List<EventResponse>> getAllEvents(
-        @RequestParam(required = false) String search,
-        @RequestParam(required = false) String location,
-        @RequestParam(required = false) UUID categoryId) {
-    
-    // Utilise la nouvelle méthode du service
-    return ResponseEntity.ok(eventService.getAvailableEvents(search, location, categoryId));
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+        if (search == null && location == null && categoryId == null && cursor == null && size == null
+                && "asc".equalsIgnoreCase(direction)) {
+            Optional<CatalogSnapshot.Page> snapshot = catalogSnapshot.current();
+            if (snapshot.isPresent()) {
+                return toSnapshotResponse(snapshot.get());
+            }
+        }
+        String keyword = fuzzy ? eventService.correctKeyword(search) : search;
+        CursorPage<EventResponse> page = eventService.getAvailableEventsPage(keyword, location, categoryId,
+                cursor, size, toDirection(direction));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!Objects.equals(keyword, search)) {
+            response.header(SEARCH_CORRECTED_HEADER, UriUtils.encode(keyword, StandardCharsets.UTF_8));
+        }
+        return toPageResponse(response, page);
+    }
+
+    /**
+     * Event counts per category, type, location and status, with the same filters as GET /events
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<FacetResponse> getFacets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) EventStatus status) {
+        return ResponseEntity.ok(eventService.getFacets(search, location, categoryId, status));
+    }
+
+    /**
+     * Active upcoming events around a point, nearest first
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyEventResponse>> getNearbyEvents(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(eventService.getNearbyEvents(lat, lon, radiusKm, limit));
+    }
+
+    /**
+     * Active upcoming events inside a bounding box, for map views
+     */
+    @GetMapping("/within")
+    public ResponseEntity<List<EventResponse>> getEventsWithin(
+            @RequestParam double south,
+            @RequestParam double west,
+            @RequestParam double north,
+            @RequestParam double east,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(eventService.getEventsWithin(south, west, north, east, limit));
+    }
+
+    /**
+     * Active events taking place on at least one day of [from, to], for calendar views, with the number of
+     * events on each day (month heatmaps). {@code limit=0} returns the day counts only.
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<CalendarResponse> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(eventService.getCalendar(from, to, categoryId, limit));
+    }
+
+    /**
+     * Active upcoming events trending now (recent favorites and views), optionally within one category
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingEventResponse>> getTrendingEvents(
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(eventService.getTrendingEvents(categoryId, limit));
+    }
+
+    /**
+     * Incremental sync: events created, updated or deleted since the token returned by the previous call.
+     * Without a token, the whole catalog is returned page by page. A 410 asks for a full sync.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<EventChangesResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(eventService.getChangesSince(since, size));
+    }
+
+    /**
+     * Push stream (Server-Sent Events) of the catalog changes, optionally limited to some events or one category.
+     * Events are named after the change type (created, updated, status_changed, deleted); a {@code dropped}
+     * event tells a slow client how many changes it missed. 503 when too many clients are connected.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(required = false) List<UUID> eventIds,
+            @RequestParam(required = false) UUID categoryId) {
+        List<UUID> ids = eventIds != null ? eventIds : List.of();
+        if (ids.size() > STREAM_MAX_EVENT_IDS) {
+            throw new InvalidRequestException("At most " + STREAM_MAX_EVENT_IDS + " event IDs can be followed");
+        }
+        return broadcaster.subscribe(ids, categoryId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "30")
+                        .build());
+    }
+
+    /**
+     * Autocomplete on event names and locations (accent and case insensitive)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<SuggestionResponse> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.suggest(prefix, limit));
+    }
+
+    /**
+     * Export the whole catalog as NDJSON (default) or CSV, streamed directly to the response
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        StreamingResponseBody body = out -> {
+            EventExportWriter writer = new EventExportWriter(exportFormat, out, objectMapper);
+            eventService.exportEvents(writer);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"events." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     /**
@@ -98,6 +335,36 @@ public class EventController {
         eventService.deleteEvent(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Les éléments déjà sérialisés sont écrits tels quels par PreSerializedJsonConverter
+    private ResponseEntity<List<EventResponse>> toSnapshotResponse(CatalogSnapshot.Page page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.AGE, Long.toString(catalogSnapshot.ageSeconds(page)));
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    private static Sort.Direction toDirection(String direction) {
+        try {
+            return Sort.Direction.fromString(direction);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid direction: " + direction);
+        }
+    }
+
+    private ResponseEntity<List<EventResponse>> toPageResponse(CursorPage<EventResponse> page) {
+        return toPageResponse(ResponseEntity.ok(), page);
+    }
+
+    private ResponseEntity<List<EventResponse>> toPageResponse(ResponseEntity.BodyBuilder response,
+                                                               CursorPage<EventResponse> page) {
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
 }
 
 
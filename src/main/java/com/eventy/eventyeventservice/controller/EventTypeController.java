@@ -1,12 +1,15 @@
 package com.eventy.eventyeventservice.controller;
 
+import com.eventy.eventyeventservice.cache.ReferenceDataCache;
 import com.eventy.eventyeventservice.model.EventType;
 import com.eventy.eventyeventservice.repository.EventTypeRepository;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,10 +21,15 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class EventTypeController {
 
+    // Les clients revalident ensuite avec If-None-Match (réponse 304 si le référentiel n'a pas changé)
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
     private final EventTypeRepository eventTypeRepository;
+    private final ReferenceDataCache referenceData;
 
-    public EventTypeController(EventTypeRepository eventTypeRepository) {
+    public EventTypeController(EventTypeRepository eventTypeRepository, ReferenceDataCache referenceData) {
         this.eventTypeRepository = eventTypeRepository;
+        this.referenceData = referenceData;
     }
 
     /**
@@ -29,7 +37,11 @@ public class EventTypeController {
      */
     @GetMapping
     public ResponseEntity<List<EventType>> getAllEventTypes() {
-        return ResponseEntity.ok(eventTypeRepository.findAll());
+        ReferenceDataCache.Snapshot snapshot = referenceData.snapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.typesETag())
+                .cacheControl(CACHE_CONTROL)
+                .body(snapshot.types());
     }
 
     /**
@@ -37,9 +49,15 @@ public class EventTypeController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<EventType> getEventTypeById(@PathVariable UUID id) {
-        return eventTypeRepository.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        ReferenceDataCache.Snapshot snapshot = referenceData.snapshot();
+        EventType eventType = snapshot.typesById().get(id);
+        if (eventType == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.typesETag())
+                .cacheControl(CACHE_CONTROL)
+                .body(eventType);
     }
 
     /**
@@ -48,6 +66,7 @@ public class EventTypeController {
     @PostMapping
     public ResponseEntity<EventType> createEventType(@Valid @RequestBody EventType eventType) {
         EventType savedEventType = eventTypeRepository.save(eventType);
+        referenceData.refresh();
         return ResponseEntity.status(HttpStatus.CREATED).body(savedEventType);
     }
 
@@ -59,7 +78,9 @@ public class EventTypeController {
         return eventTypeRepository.findById(id)
                 .map(existing -> {
                     eventType.setEventTypeId(id);
-                    return ResponseEntity.ok(eventTypeRepository.save(eventType));
+                    EventType saved = eventTypeRepository.save(eventType);
+                    referenceData.refresh();
+                    return ResponseEntity.ok(saved);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -71,6 +92,7 @@ public class EventTypeController {
     public ResponseEntity<Void> deleteEventType(@PathVariable UUID id) {
         if (eventTypeRepository.existsById(id)) {
             eventTypeRepository.deleteById(id);
+            referenceData.refresh();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
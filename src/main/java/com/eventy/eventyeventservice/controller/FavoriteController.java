@@ -1,15 +1,17 @@
 package com.eventy.eventyeventservice.controller;
 
-import com.eventy.eventyeventservice.model.Favorite;
-import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import com.eventy.eventyeventservice.dto.CursorPage;
+import com.eventy.eventyeventservice.dto.FavoriteRequest;
+import com.eventy.eventyeventservice.dto.FavoriteResponse;
+import com.eventy.eventyeventservice.dto.RecommendedEventResponse;
+import com.eventy.eventyeventservice.service.FavoriteService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -17,43 +19,81 @@ import java.util.UUID;
  */
 @RestController
 @RequestMapping("/favorites")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = FavoriteController.NEXT_CURSOR_HEADER)
 public class FavoriteController {
 
-    private final FavoriteRepository favoriteRepository;
+    /**
+     * Opaque token to pass as {@code cursor} to get the next page (absent on the last page)
+     */
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final FavoriteService favoriteService;
 
-    public FavoriteController(FavoriteRepository favoriteRepository) {
-        this.favoriteRepository = favoriteRepository;
+    public FavoriteController(FavoriteService favoriteService) {
+        this.favoriteService = favoriteService;
     }
 
     /**
-     * Get all favorites for a specific user
+     * Get the favorites of a specific user, most recent first (paginated)
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Favorite>> getFavoritesByUser(@PathVariable UUID userId) {
-        return ResponseEntity.ok(favoriteRepository.findByUserId(userId));
+    public ResponseEntity<List<FavoriteResponse>> getFavoritesByUser(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<FavoriteResponse> page = favoriteService.getFavoritesByUser(userId, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * Get only the IDs of the events favorited by a user
+     */
+    @GetMapping("/user/{userId}/event-ids")
+    public ResponseEntity<List<UUID>> getFavoriteEventIds(@PathVariable UUID userId) {
+        return ResponseEntity.ok(favoriteService.getFavoriteEventIds(userId));
+    }
+
+    /**
+     * Active upcoming events recommended from the user's favorites (events favorited by similar users)
+     */
+    @GetMapping("/user/{userId}/recommendations")
+    public ResponseEntity<List<RecommendedEventResponse>> getRecommendations(
+            @PathVariable UUID userId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(favoriteService.getRecommendations(userId, limit));
+    }
+
+    /**
+     * Tell which of the given events are in the user's favorites (event ID -> true/false, in request order)
+     */
+    @PostMapping("/user/{userId}/contains")
+    public ResponseEntity<Map<UUID, Boolean>> containsFavorites(@PathVariable UUID userId,
+                                                                @RequestBody List<UUID> eventIds) {
+        return ResponseEntity.ok(favoriteService.containsFavorites(userId, eventIds));
     }
 
     /**
      * Get a favorite by its ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Favorite> getFavoriteById(@PathVariable UUID id) {
-        return favoriteRepository.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<FavoriteResponse> getFavoriteById(@PathVariable UUID id) {
+        return ResponseEntity.ok(favoriteService.getFavoriteById(id));
     }
 
     /**
-     * Add an event to favorites
+     * Add an event to favorites. In write-behind mode the favorite is written asynchronously (202 Accepted, no body).
      */
     @PostMapping
-    public ResponseEntity<Favorite> createFavorite(@Valid @RequestBody Favorite favorite) {
-        if (favorite.getAddedDate() == null) {
-            favorite.setAddedDate(LocalDate.now());
+    public ResponseEntity<FavoriteResponse> createFavorite(@Valid @RequestBody FavoriteRequest request) {
+        if (favoriteService.isWriteBehind()) {
+            favoriteService.addFavoriteLater(request);
+            return ResponseEntity.accepted().build();
         }
-        Favorite savedFavorite = favoriteRepository.save(favorite);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedFavorite);
+        return ResponseEntity.status(HttpStatus.CREATED).body(favoriteService.addFavorite(request));
     }
 
     /**
@@ -61,22 +101,16 @@ public class FavoriteController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteFavorite(@PathVariable UUID id) {
-        if (favoriteRepository.existsById(id)) {
-            favoriteRepository.deleteById(id);
-            return ResponseEntity.noContent().build();
-        }
-        return ResponseEntity.notFound().build();
+        favoriteService.deleteFavorite(id);
+        return ResponseEntity.noContent().build();
     }
 
     /**
      * Remove an event from a user's favorites
      */
     @DeleteMapping("/user/{userId}/event/{eventId}")
-    @Transactional
     public ResponseEntity<Void> deleteFavoriteByUserAndEvent(@PathVariable UUID userId, @PathVariable UUID eventId) {
-        favoriteRepository.findByUserIdAndEvent_EventId(userId, eventId)
-                .ifPresent(favoriteRepository::delete);
+        favoriteService.deleteFavorite(userId, eventId);
         return ResponseEntity.noContent().build();
     }
 }
-
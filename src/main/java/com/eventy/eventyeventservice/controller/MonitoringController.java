@@ -0,0 +1,117 @@
+package com.eventy.eventyeventservice.controller;
+
+import com.eventy.eventyeventservice.cache.CatalogSnapshot;
+import com.eventy.eventyeventservice.cache.SearchResultCache;
+import com.eventy.eventyeventservice.dto.CacheStatsResponse;
+import com.eventy.eventyeventservice.dto.CatalogSnapshotStatsResponse;
+import com.eventy.eventyeventservice.dto.ConcurrencyLimitStatsResponse;
+import com.eventy.eventyeventservice.dto.FavoriteIndexStatsResponse;
+import com.eventy.eventyeventservice.dto.OutboxStatsResponse;
+import com.eventy.eventyeventservice.dto.SingleFlightStatsResponse;
+import com.eventy.eventyeventservice.dto.StreamStatsResponse;
+import com.eventy.eventyeventservice.dto.WriteBufferStatsResponse;
+import com.eventy.eventyeventservice.index.FavoriteBitmapIndex;
+import com.eventy.eventyeventservice.limit.AdaptiveConcurrencyLimiter;
+import com.eventy.eventyeventservice.outbox.OutboxRelay;
+import com.eventy.eventyeventservice.service.EventService;
+import com.eventy.eventyeventservice.service.FavoriteWriteBuffer;
+import com.eventy.eventyeventservice.stream.EventBroadcaster;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Internal statistics of the in-memory structures (admin only)
+ */
+@RestController
+@RequestMapping("/monitoring")
+public class MonitoringController {
+
+    private final SearchResultCache searchResultCache;
+    private final FavoriteWriteBuffer favoriteWriteBuffer;
+    private final FavoriteBitmapIndex favoriteIndex;
+    private final OutboxRelay outboxRelay;
+    private final EventBroadcaster broadcaster;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final EventService eventService;
+    private final CatalogSnapshot catalogSnapshot;
+
+    public MonitoringController(SearchResultCache searchResultCache, FavoriteWriteBuffer favoriteWriteBuffer,
+                                FavoriteBitmapIndex favoriteIndex, OutboxRelay outboxRelay,
+                                EventBroadcaster broadcaster, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                EventService eventService, CatalogSnapshot catalogSnapshot) {
+        this.searchResultCache = searchResultCache;
+        this.favoriteWriteBuffer = favoriteWriteBuffer;
+        this.favoriteIndex = favoriteIndex;
+        this.outboxRelay = outboxRelay;
+        this.broadcaster = broadcaster;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.eventService = eventService;
+        this.catalogSnapshot = catalogSnapshot;
+    }
+
+    /**
+     * Hit/miss/eviction counters and memory usage of the search result cache
+     */
+    @GetMapping("/search-cache")
+    public ResponseEntity<CacheStatsResponse> getSearchCacheStats() {
+        return ResponseEntity.ok(searchResultCache.stats());
+    }
+
+    /**
+     * Favorite toggles received versus rows written by the write-behind buffer
+     */
+    @GetMapping("/favorite-writes")
+    public ResponseEntity<WriteBufferStatsResponse> getFavoriteWriteStats() {
+        return ResponseEntity.ok(favoriteWriteBuffer.stats());
+    }
+
+    /**
+     * Users, events, favorites and bitmap memory of the in-memory favorite index
+     */
+    @GetMapping("/favorite-index")
+    public ResponseEntity<FavoriteIndexStatsResponse> getFavoriteIndexStats() {
+        return ResponseEntity.ok(favoriteIndex.stats());
+    }
+
+    /**
+     * Pending messages, deliveries and failures of the outbox relay
+     */
+    @GetMapping("/outbox")
+    public ResponseEntity<OutboxStatsResponse> getOutboxStats() {
+        return ResponseEntity.ok(outboxRelay.stats());
+    }
+
+    /**
+     * Connected clients and sent/dropped notifications of GET /events/stream
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamStatsResponse> getStreamStats() {
+        return ResponseEntity.ok(broadcaster.stats());
+    }
+
+    /**
+     * Adaptive concurrency limit of /events and /favorites, in-flight and rejected requests, latencies
+     */
+    @GetMapping("/concurrency")
+    public ResponseEntity<ConcurrencyLimitStatsResponse> getConcurrencyStats() {
+        return ResponseEntity.ok(concurrencyLimiter.stats());
+    }
+
+    /**
+     * Event reads and searches actually run versus served by an identical concurrent request
+     */
+    @GetMapping("/single-flight")
+    public ResponseEntity<SingleFlightStatsResponse> getSingleFlightStats() {
+        return ResponseEntity.ok(eventService.singleFlightStats());
+    }
+
+    /**
+     * Age, size and usage of the pre-serialized first page of GET /events
+     */
+    @GetMapping("/catalog-snapshot")
+    public ResponseEntity<CatalogSnapshotStatsResponse> getCatalogSnapshotStats() {
+        return ResponseEntity.ok(catalogSnapshot.stats());
+    }
+}
@@ -0,0 +1,21 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Usage statistics of an in-memory cache, for tuning
+ */
+@Data
+@Builder
+public class CacheStatsResponse {
+    private boolean enabled;
+    private long entries;
+    private long cachedIds;
+    private long estimatedBytes;   // Estimation, pas une mesure exacte
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long evictionWeight;
+}
@@ -0,0 +1,29 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Active events overlapping a date window, with the number of events on each day (month heatmaps)
+ */
+@Data
+@Builder
+public class CalendarResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private long total;            // Nombre d'événements chevauchant la fenêtre
+    private boolean truncated;     // Vrai si events ne contient pas tous les événements comptés
+    private List<CalendarDay> days;
+    private List<EventResponse> events;
+
+    @Data
+    @AllArgsConstructor
+    public static class CalendarDay {
+        private LocalDate date;
+        private int count;
+    }
+}
@@ -0,0 +1,19 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Age, size and usage of the pre-serialized first page of GET /events
+ */
+@Data
+@Builder
+public class CatalogSnapshotStatsResponse {
+    private boolean enabled;
+    // Null tant qu'aucune page n'a été construite
+    private Long ageSeconds;
+    private int sizeBytes;
+    private long servedCount;
+    private long buildCount;
+    private long failureCount;
+}
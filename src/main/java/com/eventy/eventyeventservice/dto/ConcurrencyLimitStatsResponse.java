@@ -0,0 +1,19 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Current adaptive limit, in-flight requests and rejections of the concurrency limiter
+ */
+@Data
+@Builder
+public class ConcurrencyLimitStatsResponse {
+    private boolean enabled;
+    private int limit;
+    private int inFlight;
+    private long acceptedCount;
+    private long rejectedCount;
+    private double longLatencyMs;   // Latence de référence (moyenne longue)
+    private double shortLatencyMs;  // Latence récente (moyenne courte)
+}
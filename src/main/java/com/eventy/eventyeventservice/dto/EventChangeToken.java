@@ -0,0 +1,38 @@
+package com.eventy.eventyeventservice.dto;
+
+import com.eventy.eventyeventservice.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the catalog change log, exchanged with clients as an opaque token
+ */
+public record EventChangeToken(long sequence) {
+
+    private static final String PREFIX = "c1:";
+
+    public String encode() {
+        String raw = PREFIX + sequence;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidCursorException when the token was not produced by {@link #encode()}
+     */
+    public static EventChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException();
+            }
+            long sequence = Long.parseLong(raw.substring(PREFIX.length()));
+            if (sequence < 0) {
+                throw new IllegalArgumentException();
+            }
+            return new EventChangeToken(sequence);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid change token: " + token);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Catalog changes since a token: events created or modified (current state) and IDs of deleted events.
+ * {@code nextToken} is passed back on the next sync; {@code hasMore} asks for an immediate new call.
+ */
+@Data
+@Builder
+public class EventChangesResponse {
+    private List<EventResponse> changed;
+    private List<UUID> deleted;
+    private String nextToken;
+    private boolean hasMore;
+}
@@ -0,0 +1,34 @@
+package com.eventy.eventyeventservice.dto;
+
+import com.eventy.eventyeventservice.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a list of events sorted by (start_date, event_id), exchanged with clients as an opaque token
+ */
+public record EventCursor(LocalDate startDate, UUID eventId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = startDate + SEPARATOR + eventId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidCursorException when the token was not produced by {@link #encode()}
+     */
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new EventCursor(LocalDate.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.eventy.eventyeventservice.dto;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Change pushed to the clients of GET /events/stream (fields of the event after the change, null when deleted)
+ */
+@Data
+@Builder
+public class EventNotification {
+    private String type;
+    private UUID eventId;
+    private String name;
+    private String status;
+    private String previousStatus;
+    private UUID categoryId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    public static EventNotification from(EventChange change) {
+        EventSnapshot after = change.after();
+        EventNotificationBuilder builder = EventNotification.builder()
+                .type(change.type().name())
+                .eventId(change.eventId());
+        if (change.before() != null && change.before().status() != null) {
+            builder.previousStatus(change.before().status().name());
+        }
+        if (after != null) {
+            builder.name(after.name())
+                    .status(after.status() != null ? after.status().name() : null)
+                    .categoryId(after.categoryId())
+                    .startDate(after.startDate())
+                    .endDate(after.endDate());
+        }
+        return builder.build();
+    }
+}
@@ -2,6 +2,8 @@ package com.eventy.eventyeventservice.dto;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -29,6 +31,16 @@ public class EventRequest {
     private String location;
 
     private String fullAddress;
+
+    // Coordonnées optionnelles, à fournir ensemble
+    @DecimalMin(value = "-90.0", message = "La latitude doit être comprise entre -90 et 90")
+    @DecimalMax(value = "90.0", message = "La latitude doit être comprise entre -90 et 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "La longitude doit être comprise entre -180 et 180")
+    @DecimalMax(value = "180.0", message = "La longitude doit être comprise entre -180 et 180")
+    private Double longitude;
+
     private String imageUrl;
 
     private UUID eventTypeId;
@@ -1,12 +1,16 @@
 package com.eventy.eventyeventservice.dto;
 
+import com.eventy.eventyeventservice.model.EventStatus;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Builder;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class EventResponse {
     private UUID id;
     private String name;
@@ -15,9 +19,24 @@ public class EventResponse {
     private LocalDateTime endDate;
     private String location;
     private String fullAddress;
+    private Double latitude;
+    private Double longitude;
     private String imageUrl;
     private String status;
     private String typeLabel;      // Label du type (ex: Concert)
     private String categoryLabel;  // Label de la catégorie (ex: Musique)
     private UUID creatorId;
-}
\ No newline at end of file
+    private Long favoriteCount;    // Nombre de favoris (null tant que l'index des favoris n'est pas chargé)
+
+    /**
+     * Projection constructor, called by the JPQL / Criteria constructor expressions of the read queries
+     * (columns as stored, no entity hydration)
+     */
+    public EventResponse(UUID id, String name, String description, LocalDate startDate, LocalDate endDate,
+                         String location, String fullAddress, Double latitude, Double longitude, String imageUrl,
+                         EventStatus status, String typeLabel, String categoryLabel, UUID creatorId) {
+        this(id, name, description, startDate.atStartOfDay(), endDate.atStartOfDay(), location, fullAddress,
+                latitude, longitude, imageUrl, status != null ? status.name() : "UNKNOWN",
+                typeLabel, categoryLabel, creatorId, null);
+    }
+}
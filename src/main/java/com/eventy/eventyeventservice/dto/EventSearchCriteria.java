@@ -0,0 +1,20 @@
+package com.eventy.eventyeventservice.dto;
+
+import com.eventy.eventyeventservice.model.EventStatus;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Filters of an event search. Every field is optional: null (or blank, or empty) means no filter.
+ *
+ * @param categoryIds events of any of these categories
+ * @param startFrom   events starting on or after this date
+ * @param startTo     events starting on or before this date
+ */
+@Builder
+public record EventSearchCriteria(String keyword, String location, Set<UUID> categoryIds, UUID eventTypeId,
+                                  EventStatus status, LocalDate startFrom, LocalDate startTo) {
+}
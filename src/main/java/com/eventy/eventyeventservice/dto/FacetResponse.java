@@ -0,0 +1,28 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Number of events per filter value, most frequent first
+ */
+@Data
+@Builder
+public class FacetResponse {
+    private long total;
+    private List<FacetValue> categories;
+    private List<FacetValue> types;
+    private List<FacetValue> locations;
+    private List<FacetValue> statuses;
+
+    @Data
+    @AllArgsConstructor
+    public static class FacetValue {
+        private String value;   // ID, lieu ou statut à repasser en filtre
+        private String label;
+        private long count;
+    }
+}
@@ -0,0 +1,34 @@
+package com.eventy.eventyeventservice.dto;
+
+import com.eventy.eventyeventservice.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a user's favorites sorted by (added_date DESC, favorite_id DESC), exchanged with clients as an opaque token
+ */
+public record FavoriteCursor(LocalDate addedDate, UUID favoriteId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = addedDate + SEPARATOR + favoriteId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidCursorException when the token was not produced by {@link #encode()}
+     */
+    public static FavoriteCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new FavoriteCursor(LocalDate.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
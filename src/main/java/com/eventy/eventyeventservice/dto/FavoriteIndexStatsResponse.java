@@ -0,0 +1,18 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Size of the in-memory favorite index
+ */
+@Data
+@Builder
+public class FavoriteIndexStatsResponse {
+    private boolean enabled;
+    private boolean loaded;
+    private long users;
+    private long events;
+    private long favorites;
+    private long bitmapBytes;      // Bitmaps seuls, hors dictionnaire des utilisateurs
+}
@@ -0,0 +1,20 @@
+package com.eventy.eventyeventservice.dto;
+
+import java.util.UUID;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoriteRequest {
+    @NotNull(message = "L'ID utilisateur est obligatoire")
+    private UUID userId;
+
+    @NotNull(message = "L'ID de l'événement est obligatoire")
+    private UUID eventId;
+}
@@ -0,0 +1,33 @@
+package com.eventy.eventyeventservice.dto;
+
+import com.eventy.eventyeventservice.model.EventStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Compact view of a favorite: the few event fields a favorites list needs, not the whole event
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class FavoriteResponse {
+    private UUID favoriteId;
+    private UUID eventId;
+    private String name;
+    private LocalDateTime startDate;
+    private String status;
+    private LocalDate addedDate;
+
+    /**
+     * Projection constructor, called by the JPQL constructor expressions of {@code FavoriteRepository}
+     */
+    public FavoriteResponse(UUID favoriteId, UUID eventId, String name, LocalDate startDate, EventStatus status,
+                            LocalDate addedDate) {
+        this(favoriteId, eventId, name, startDate.atStartOfDay(), status != null ? status.name() : "UNKNOWN",
+                addedDate);
+    }
+}
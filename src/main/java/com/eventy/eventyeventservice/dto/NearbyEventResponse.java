@@ -0,0 +1,18 @@
+package com.eventy.eventyeventservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Event returned by a proximity search: the usual event fields plus the distance to the searched point
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyEventResponse {
+    @JsonUnwrapped
+    private EventResponse event;
+    private double distanceKm;
+}
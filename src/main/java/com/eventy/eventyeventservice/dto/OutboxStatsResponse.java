@@ -0,0 +1,25 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Backlog and delivery counters of the outbox relay
+ */
+@Data
+@Builder
+public class OutboxStatsResponse {
+    private boolean enabled;
+    private String sink;
+    private long pendingCount;
+    private long deliveredCount;
+    private long batchCount;
+    private long partialBatchCount;
+    private long failureCount;
+    private int consecutiveFailures;
+    private Instant nextAttemptAt;
+    private String lastError;
+    private long cleanedCount;
+}
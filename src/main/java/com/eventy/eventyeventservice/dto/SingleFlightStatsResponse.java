@@ -0,0 +1,18 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Reads actually run versus reads served by an identical concurrent read (GET /events/{id}, available events)
+ */
+@Data
+@Builder
+public class SingleFlightStatsResponse {
+    private boolean enabled;
+    private long eventLoadCount;
+    private long eventSharedCount;
+    private long searchLoadCount;
+    private long searchSharedCount;
+    private long timeoutCount;
+}
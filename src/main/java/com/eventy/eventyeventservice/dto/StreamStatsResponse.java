@@ -0,0 +1,18 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Subscribers and delivery counters of the event push stream
+ */
+@Data
+@Builder
+public class StreamStatsResponse {
+    private int subscribers;
+    private int maxSubscribers;
+    private long publishedCount;
+    private long sentCount;
+    private long droppedCount;      // Notifications écartées par des abonnés trop lents (plus anciennes d'abord)
+    private long rejectedCount;     // Connexions refusées au-delà de maxSubscribers
+}
@@ -0,0 +1,35 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Autocomplete result: matching event names and distinct locations
+ */
+@Data
+@Builder
+public class SuggestionResponse {
+    private List<EventSuggestion> events;
+    private List<LocationSuggestion> locations;
+
+    @Data
+    @AllArgsConstructor
+    public static class EventSuggestion {
+        private UUID id;
+        private String name;
+        private String location;
+        private LocalDate startDate;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class LocationSuggestion {
+        private String location;
+        private int eventCount;
+    }
+}
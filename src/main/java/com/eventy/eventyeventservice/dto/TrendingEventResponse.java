@@ -0,0 +1,18 @@
+package com.eventy.eventyeventservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Event returned by the trending ranking: the usual event fields plus its decayed popularity score
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingEventResponse {
+    @JsonUnwrapped
+    private EventResponse event;
+    private double score;
+}
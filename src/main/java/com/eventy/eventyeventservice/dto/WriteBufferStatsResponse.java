@@ -0,0 +1,18 @@
+package com.eventy.eventyeventservice.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Counters of a write-behind buffer: toggles received versus rows actually written
+ */
+@Data
+@Builder
+public class WriteBufferStatsResponse {
+    private boolean enabled;
+    private long pendingUsers;
+    private long pendingToggles;
+    private long toggleCount;
+    private long writtenRowCount;
+    private long flushCount;
+}
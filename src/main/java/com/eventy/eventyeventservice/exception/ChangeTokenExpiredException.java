@@ -0,0 +1,11 @@
+package com.eventy.eventyeventservice.exception;
+
+/**
+ * The change token is older than the retained deletions: the client must sync the whole catalog again
+ */
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
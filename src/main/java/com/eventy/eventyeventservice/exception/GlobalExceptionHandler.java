@@ -1,6 +1,7 @@
 package com.eventy.eventyeventservice.exception;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -30,4 +31,34 @@ public class GlobalExceptionHandler {
         error.put("message", "Invalid value for parameter: " + ex.getName());
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
+
+    // Paramètres invalides fournis par le client (curseur de pagination, sens de tri, bornes...) en 400 Bad Request.
+    // Les autres IllegalArgumentException restent des erreurs internes (500), sans message renvoyé au client
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(InvalidRequestException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Bad Request");
+        error.put("message", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    // Jeton de synchronisation trop ancien (suppressions purgées) en 410 Gone : resynchronisation complète
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<Map<String, String>> handleChangeTokenExpired(ChangeTokenExpiredException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Gone");
+        error.put("message", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.GONE);
+    }
+
+    // Attente trop longue d'une lecture identique déjà en cours en 503 : le client peut réessayer aussitôt
+    @ExceptionHandler(RequestTimeoutException.class)
+    public ResponseEntity<Map<String, String>> handleRequestTimeout(RequestTimeoutException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Service Unavailable");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
 }
\ No newline at end of file
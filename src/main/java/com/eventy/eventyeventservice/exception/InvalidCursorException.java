@@ -0,0 +1,11 @@
+package com.eventy.eventyeventservice.exception;
+
+/**
+ * A pagination cursor, change token or sort direction was not issued by the service
+ */
+public class InvalidCursorException extends InvalidRequestException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
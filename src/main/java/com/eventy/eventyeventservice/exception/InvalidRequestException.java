@@ -0,0 +1,11 @@
+package com.eventy.eventyeventservice.exception;
+
+/**
+ * A request parameter supplied by the client is invalid: reported as 400 Bad Request with this message
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
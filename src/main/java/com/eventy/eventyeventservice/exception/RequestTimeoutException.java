@@ -0,0 +1,11 @@
+package com.eventy.eventyeventservice.exception;
+
+/**
+ * A request waited too long for a result computed by another request: the client should retry
+ */
+public class RequestTimeoutException extends RuntimeException {
+
+    public RequestTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,114 @@
+package com.eventy.eventyeventservice.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Burkhard-Keller tree over the Levenshtein distance, to find the terms within a few edits of a word
+ * without comparing it to the whole vocabulary.
+ * <p>
+ * Terms can only be added (callers filter out terms that are no longer used and rebuild periodically).
+ * Additions must be serialized by the caller; searches may run concurrently with them.
+ */
+public class BkTree {
+
+    private volatile Node root;
+    private int size;
+
+    public record Match(String term, int distance) {
+    }
+
+    /**
+     * @return false when the term was already present
+     */
+    public boolean add(String term) {
+        Node node = root;
+        if (node == null) {
+            root = new Node(term);
+            size++;
+            return true;
+        }
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Terms at most {@code maxDistance} edits away from the word
+     */
+    public List<Match> search(String word, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        Node start = root;
+        if (start == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(word, node.term);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.term, distance));
+            }
+            // Inégalité triangulaire : seuls les enfants à distance [d - max, d + max] peuvent convenir
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Levenshtein distance (insertions, deletions and substitutions), two-row dynamic programming
+     */
+    public static int distance(String a, String b) {
+        if (a.equals(b)) {
+            return 0;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Node {
+        private final String term;
+        private final Map<Integer, Node> children = new ConcurrentHashMap<>(4);
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Interval tree over the periods (start date to end date, inclusive) of the active events, for calendar views.
+ * <p>
+ * The periods are kept in an array sorted by start date, read as an implicit balanced search tree (the middle
+ * of a range is its root) where each node also holds the latest end date of its subtree. An overlap query skips
+ * every subtree that ends before the window or starts after it, so it visits O(log n) nodes per match instead of
+ * scanning all the events that start before the window, and returns the matches in start date order.
+ * A change builds a new array (O(n), writes are rare) that is swapped in, so that readers never lock.
+ */
+@Component
+public class EventCalendarIndex implements EventIndex {
+
+    private static final Comparator<Period> BY_START_DATE =
+            Comparator.comparing(Period::startDate).thenComparing(Period::eventId);
+
+    private volatile Tree tree = new Tree(new Period[0]);
+
+    private record Period(UUID eventId, UUID categoryId, LocalDate startDate, LocalDate endDate) {
+    }
+
+    /**
+     * Events overlapping a window, and the number of them taking place on each day of the window
+     *
+     * @param eventIds  the first matches in start date order, at most the requested limit
+     * @param dayCounts one count per day of the window, from its first day
+     * @param total     number of matches
+     */
+    public record Window(List<UUID> eventIds, int[] dayCounts, int total) {
+    }
+
+    // Synchronisé avec apply : un changement appliqué pendant le tri ne doit pas écraser la nouvelle génération
+    @Override
+    public synchronized void rebuild(List<EventSnapshot> events) {
+        tree = new Tree(events.stream()
+                .map(EventCalendarIndex::toPeriod)
+                .filter(Objects::nonNull)
+                .sorted(BY_START_DATE)
+                .toArray(Period[]::new));
+    }
+
+    @Override
+    public synchronized void apply(EventChange change) {
+        List<Period> periods = new ArrayList<>(tree.periods.length + 1);
+        for (Period period : tree.periods) {
+            if (!period.eventId().equals(change.eventId())) {
+                periods.add(period);
+            }
+        }
+        Period added = change.after() != null ? toPeriod(change.after()) : null;
+        if (added != null) {
+            // Tableau déjà trié : insertion à sa place plutôt qu'un nouveau tri
+            int position = Collections.binarySearch(periods, added, BY_START_DATE);
+            periods.add(position < 0 ? -position - 1 : position, added);
+        }
+        tree = new Tree(periods.toArray(Period[]::new));
+    }
+
+    /**
+     * Active events taking place on at least one day of [from, to]
+     *
+     * @param categoryId only events of this category (all when null)
+     * @param limit      maximum number of IDs returned; the counts cover every match
+     */
+    public Window window(LocalDate from, LocalDate to, UUID categoryId, int limit) {
+        long first = from.toEpochDay();
+        long last = to.toEpochDay();
+        int[] counts = new int[(int) (last - first + 2)];
+        List<UUID> eventIds = new ArrayList<>();
+        int[] total = new int[1];
+        Tree current = tree;
+        current.overlapping(0, current.periods.length - 1, first, last, index -> {
+            Period period = current.periods[index];
+            if (categoryId != null && !categoryId.equals(period.categoryId())) {
+                return;
+            }
+            if (eventIds.size() < limit) {
+                eventIds.add(period.eventId());
+            }
+            total[0]++;
+            // Tableau de différences : +1 au premier jour couvert, -1 au lendemain du dernier
+            counts[(int) (Math.max(current.starts[index], first) - first)]++;
+            counts[(int) (Math.min(current.ends[index], last) - first + 1)]--;
+        });
+        for (int day = 1; day < counts.length; day++) {
+            counts[day] += counts[day - 1];
+        }
+        return new Window(eventIds, Arrays.copyOf(counts, counts.length - 1), total[0]);
+    }
+
+    /**
+     * Number of events currently indexed
+     */
+    public int size() {
+        return tree.periods.length;
+    }
+
+    private static Period toPeriod(EventSnapshot event) {
+        if (!event.isActive() || event.startDate() == null) {
+            return null;
+        }
+        LocalDate endDate = event.endDate() != null && !event.endDate().isBefore(event.startDate())
+                ? event.endDate()
+                : event.startDate();
+        return new Period(event.eventId(), event.categoryId(), event.startDate(), endDate);
+    }
+
+    /**
+     * Immutable tree: periods sorted by start date, with the dates as epoch days for the comparisons
+     */
+    private static final class Tree {
+        private final Period[] periods;
+        private final long[] starts;
+        private final long[] ends;
+        // Fin la plus tardive du sous-arbre dont l'élément est la racine
+        private final long[] maxEnds;
+
+        private Tree(Period[] periods) {
+            this.periods = periods;
+            this.starts = new long[periods.length];
+            this.ends = new long[periods.length];
+            this.maxEnds = new long[periods.length];
+            for (int i = 0; i < periods.length; i++) {
+                starts[i] = periods[i].startDate().toEpochDay();
+                ends[i] = periods[i].endDate().toEpochDay();
+            }
+            computeMaxEnds(0, periods.length - 1);
+        }
+
+        private long computeMaxEnds(int low, int high) {
+            if (low > high) {
+                return Long.MIN_VALUE;
+            }
+            int mid = (low + high) >>> 1;
+            maxEnds[mid] = Math.max(ends[mid], Math.max(computeMaxEnds(low, mid - 1), computeMaxEnds(mid + 1, high)));
+            return maxEnds[mid];
+        }
+
+        // Parcours infixe (ordre des dates de début) limité aux sous-arbres pouvant chevaucher [first, last]
+        private void overlapping(int low, int high, long first, long last, IntConsumer visitor) {
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (maxEnds[mid] < first) {
+                    return;
+                }
+                overlapping(low, mid - 1, first, last, visitor);
+                if (starts[mid] > last) {
+                    return;
+                }
+                if (ends[mid] >= first) {
+                    visitor.accept(mid);
+                }
+                low = mid + 1;
+            }
+        }
+    }
+}
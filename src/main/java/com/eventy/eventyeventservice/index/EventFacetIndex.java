@@ -0,0 +1,193 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Event counts per category, type, location and status, maintained incrementally from the change feed.
+ * <p>
+ * Counters are kept separately for each status, so that counts restricted to one status (typically the
+ * active catalog) are read directly. The stored entry of each event makes updates idempotent: a change
+ * first withdraws the previous contribution of the event, then adds the new one.
+ */
+@Component
+public class EventFacetIndex implements EventIndex {
+
+    private volatile Generation generation = new Generation();
+
+    /**
+     * Facet counts; locations are keyed by their display label
+     */
+    public record FacetCounts(long total,
+                              Map<UUID, Long> categories,
+                              Map<UUID, Long> types,
+                              Map<String, Long> locations,
+                              Map<EventStatus, Long> statuses) {
+    }
+
+    private record Entry(UUID categoryId, UUID eventTypeId, String locationKey, EventStatus status) {
+    }
+
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        Generation fresh = new Generation();
+        events.forEach(fresh::add);
+        generation = fresh;
+    }
+
+    @Override
+    public void apply(EventChange change) {
+        Generation current = generation;
+        synchronized (current) {
+            current.remove(change.eventId());
+            if (change.after() != null) {
+                current.add(change.after());
+            }
+        }
+    }
+
+    /**
+     * Counts over the whole catalog, or over the events of one status
+     *
+     * @param status null for every status
+     */
+    public FacetCounts counts(EventStatus status) {
+        Generation current = generation;
+        Accumulator result = new Accumulator(current.labels);
+        for (Map.Entry<EventStatus, Counters> counters : current.byStatus.entrySet()) {
+            if (status == null || status == counters.getKey()) {
+                result.merge(counters.getKey(), counters.getValue());
+            }
+        }
+        return result.toCounts();
+    }
+
+    /**
+     * Counts over a set of events (e.g. the result of an in-memory keyword search)
+     *
+     * @param status null for every status
+     */
+    public FacetCounts counts(Collection<UUID> eventIds, EventStatus status) {
+        Generation current = generation;
+        Accumulator result = new Accumulator(current.labels);
+        for (UUID eventId : eventIds) {
+            Entry entry = current.entries.get(eventId);
+            if (entry != null && (status == null || status == entry.status())) {
+                result.add(entry);
+            }
+        }
+        return result.toCounts();
+    }
+
+    /**
+     * Per-status counters, updated under the generation lock and read without lock
+     */
+    private static final class Counters {
+        private final Map<UUID, Long> categories = new ConcurrentHashMap<>();
+        private final Map<UUID, Long> types = new ConcurrentHashMap<>();
+        private final Map<String, Long> locations = new ConcurrentHashMap<>();
+        private volatile long total;
+
+        private void update(Entry entry, long delta) {
+            total += delta;
+            increment(categories, entry.categoryId(), delta);
+            increment(types, entry.eventTypeId(), delta);
+            increment(locations, entry.locationKey(), delta);
+        }
+
+        private static <K> void increment(Map<K, Long> counts, K key, long delta) {
+            if (key != null) {
+                counts.compute(key, (k, count) -> {
+                    long updated = (count != null ? count : 0) + delta;
+                    return updated > 0 ? updated : null;
+                });
+            }
+        }
+    }
+
+    /**
+     * One generation of the index. Mutations are serialized by the caller (synchronized on the generation).
+     */
+    private static final class Generation {
+        private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<EventStatus, Counters> byStatus = new ConcurrentHashMap<>();
+        // Libellé affiché pour chaque lieu normalisé (première orthographe rencontrée)
+        private final Map<String, String> labels = new ConcurrentHashMap<>();
+
+        private void add(EventSnapshot event) {
+            String locationKey = String.join(" ", TextNormalizer.tokenize(event.location()));
+            if (locationKey.isEmpty()) {
+                locationKey = null;
+            } else {
+                labels.putIfAbsent(locationKey, event.location().trim());
+            }
+            Entry entry = new Entry(event.categoryId(), event.eventTypeId(), locationKey, event.status());
+            entries.put(event.eventId(), entry);
+            if (entry.status() != null) {
+                byStatus.computeIfAbsent(entry.status(), s -> new Counters()).update(entry, 1);
+            }
+        }
+
+        private void remove(UUID eventId) {
+            Entry entry = entries.remove(eventId);
+            if (entry != null && entry.status() != null) {
+                byStatus.get(entry.status()).update(entry, -1);
+            }
+        }
+    }
+
+    private static final class Accumulator {
+        private final Map<String, String> labels;
+        private final Map<UUID, Long> categories = new HashMap<>();
+        private final Map<UUID, Long> types = new HashMap<>();
+        private final Map<String, Long> locations = new HashMap<>();
+        private final Map<EventStatus, Long> statuses = new EnumMap<>(EventStatus.class);
+        private long total;
+
+        private Accumulator(Map<String, String> labels) {
+            this.labels = labels;
+        }
+
+        private void merge(EventStatus status, Counters counters) {
+            long count = counters.total;
+            if (count == 0) {
+                return;
+            }
+            total += count;
+            statuses.merge(status, count, Long::sum);
+            counters.categories.forEach((id, n) -> categories.merge(id, n, Long::sum));
+            counters.types.forEach((id, n) -> types.merge(id, n, Long::sum));
+            counters.locations.forEach((key, n) -> locations.merge(labels.getOrDefault(key, key), n, Long::sum));
+        }
+
+        private void add(Entry entry) {
+            total++;
+            if (entry.status() != null) {
+                statuses.merge(entry.status(), 1L, Long::sum);
+            }
+            if (entry.categoryId() != null) {
+                categories.merge(entry.categoryId(), 1L, Long::sum);
+            }
+            if (entry.eventTypeId() != null) {
+                types.merge(entry.eventTypeId(), 1L, Long::sum);
+            }
+            if (entry.locationKey() != null) {
+                locations.merge(labels.getOrDefault(entry.locationKey(), entry.locationKey()), 1L, Long::sum);
+            }
+        }
+
+        private FacetCounts toCounts() {
+            return new FacetCounts(total, categories, types, locations, statuses);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uniform latitude/longitude grid over the active, not yet finished events that have coordinates.
+ * <p>
+ * Each cell holds an immutable array of points, replaced copy-on-write so that readers never lock.
+ * A query only visits the cells overlapping its bounding box (or every non-empty cell when the box covers more
+ * cells than exist), then filters the points exactly.
+ */
+@Component
+public class EventGeoIndex implements EventIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // ~5,5 km de côté en latitude : quelques cellules pour une recherche "autour de moi"
+    private static final double CELL_DEGREES = 0.05;
+    private static final int LON_CELLS = (int) Math.ceil(360 / CELL_DEGREES);
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private static final Comparator<Point> BY_START_DATE =
+            Comparator.comparing(Point::startDate).thenComparing(Point::eventId);
+
+    private volatile Generation generation = new Generation();
+
+    public record Hit(UUID eventId, double distanceKm) {
+    }
+
+    private record Point(UUID eventId, double latitude, double longitude, LocalDate startDate, LocalDate lastDay) {
+    }
+
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        Generation fresh = new Generation();
+        LocalDate today = LocalDate.now();
+        events.forEach(event -> fresh.add(event, today));
+        generation = fresh;
+    }
+
+    @Override
+    public void apply(EventChange change) {
+        Generation current = generation;
+        synchronized (current) {
+            current.remove(change.eventId());
+            if (change.after() != null) {
+                current.add(change.after(), LocalDate.now());
+            }
+        }
+    }
+
+    /**
+     * Events within the radius of the given point, nearest first
+     */
+    public List<Hit> nearby(double latitude, double longitude, double radiusKm, int limit) {
+        double deltaLat = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        // Près des pôles, le cercle couvre toutes les longitudes
+        double deltaLon = cosLat * 180 <= deltaLat ? 180 : Math.min(180, deltaLat / cosLat);
+
+        List<Hit> hits = new ArrayList<>();
+        for (Point point : candidates(latitude - deltaLat, longitude - deltaLon,
+                latitude + deltaLat, longitude + deltaLon)) {
+            double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+            if (distance <= radiusKm) {
+                hits.add(new Hit(point.eventId(), distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparing(Hit::eventId));
+        return hits.size() <= limit ? hits : hits.subList(0, limit);
+    }
+
+    /**
+     * Events inside the bounding box, soonest first. A box whose west edge is greater than its east edge
+     * crosses the antimeridian.
+     */
+    public List<UUID> within(double south, double west, double north, double east, int limit) {
+        List<Point> points = west <= east
+                ? candidates(south, west, north, east)
+                : concat(candidates(south, west, north, 180), candidates(south, -180, north, east));
+        return points.stream()
+                .sorted(BY_START_DATE)
+                .limit(limit)
+                .map(Point::eventId)
+                .toList();
+    }
+
+    /**
+     * Number of events currently indexed
+     */
+    public int size() {
+        return generation.points.size();
+    }
+
+    /**
+     * Great-circle distance (haversine formula)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // Points du rectangle ; une boîte qui dépasse ±180° en longitude est ramenée dans [-180, 180]
+    private List<Point> candidates(double south, double west, double north, double east) {
+        if (east - west >= 360) {
+            west = -180;
+            east = 180;
+        } else if (west < -180) {
+            return concat(candidates(south, west + 360, north, 180), candidates(south, -180, north, east));
+        }
+        if (east > 180) {
+            return concat(candidates(south, west, north, 180), candidates(south, -180, north, east - 360));
+        }
+        double minLat = Math.max(-90, south);
+        double maxLat = Math.min(90, north);
+        Generation current = generation;
+        List<Point> result = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+
+        int minRow = row(minLat);
+        int maxRow = row(maxLat);
+        int minCol = column(west);
+        int maxCol = column(east);
+        long visited = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (visited <= current.cells.size()) {
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = minCol; c <= maxCol; c++) {
+                    Point[] cell = current.cells.get(cellKey(r, c));
+                    if (cell != null) {
+                        collect(cell, minLat, west, maxLat, east, today, result);
+                    }
+                }
+            }
+        } else {
+            double westBound = west;
+            double eastBound = east;
+            current.cells.values().forEach(cell -> collect(cell, minLat, westBound, maxLat, eastBound, today, result));
+        }
+        return result;
+    }
+
+    // Les événements terminés depuis le dernier rebuild sont écartés à la lecture
+    private static void collect(Point[] cell, double south, double west, double north, double east,
+                                LocalDate today, List<Point> out) {
+        for (Point point : cell) {
+            if (!point.lastDay().isBefore(today)
+                    && point.latitude() >= south && point.latitude() <= north
+                    && point.longitude() >= west && point.longitude() <= east) {
+                out.add(point);
+            }
+        }
+    }
+
+    private static List<Point> concat(List<Point> first, List<Point> second) {
+        first.addAll(second);
+        return first;
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return Math.min(LON_CELLS - 1, (int) Math.floor((longitude + 180) / CELL_DEGREES));
+    }
+
+    private static long cellKey(int row, int column) {
+        return (long) row * LON_CELLS + column;
+    }
+
+    /**
+     * One generation of the index. Mutations are serialized by the caller (synchronized on the generation).
+     */
+    private static final class Generation {
+        private final Map<Long, Point[]> cells = new ConcurrentHashMap<>();
+        private final Map<UUID, Point> points = new ConcurrentHashMap<>();
+
+        private void add(EventSnapshot event, LocalDate today) {
+            LocalDate lastDay = event.endDate() != null ? event.endDate() : event.startDate();
+            if (!event.isActive() || event.latitude() == null || event.longitude() == null
+                    || event.startDate() == null || lastDay.isBefore(today)) {
+                return;
+            }
+            Point point = new Point(event.eventId(), event.latitude(), event.longitude(), event.startDate(), lastDay);
+            points.put(point.eventId(), point);
+            cells.merge(keyOf(point), new Point[]{point}, (current, added) -> {
+                Point[] copy = Arrays.copyOf(current, current.length + 1);
+                copy[current.length] = point;
+                return copy;
+            });
+        }
+
+        private void remove(UUID eventId) {
+            Point point = points.remove(eventId);
+            if (point == null) {
+                return;
+            }
+            cells.computeIfPresent(keyOf(point), (key, current) -> {
+                Point[] copy = Arrays.stream(current).filter(p -> !p.eventId().equals(eventId)).toArray(Point[]::new);
+                return copy.length == 0 ? null : copy;
+            });
+        }
+
+        private static long keyOf(Point point) {
+            return cellKey(row(point.latitude()), column(point.longitude()));
+        }
+    }
+}
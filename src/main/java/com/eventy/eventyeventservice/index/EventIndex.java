@@ -0,0 +1,32 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+
+import java.util.List;
+
+/**
+ * In-memory structure derived from the event catalog.
+ * Implementations are discovered by {@link EventIndexCoordinator}, which loads them at startup
+ * and forwards every committed {@link EventChange}.
+ */
+public interface EventIndex {
+
+    /**
+     * Disabled indexes are neither loaded nor maintained
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Replace the whole content of the index with the given catalog
+     */
+    void rebuild(List<EventSnapshot> events);
+
+    /**
+     * Apply a single change. Must be idempotent per event ID: a change may be replayed
+     * after a rebuild that already contains it.
+     */
+    void apply(EventChange change);
+}
@@ -0,0 +1,86 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads every {@link EventIndex} from the database and keeps them in sync with committed changes.
+ * <p>
+ * Changes committed while a rebuild is loading are recorded and replayed once the new
+ * generation has been swapped in, so that no update is lost between the load and the swap.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventIndexCoordinator {
+
+    private final List<EventIndex> indexes;
+    private final EventRepository eventRepository;
+
+    private final Object rebuildLock = new Object();
+    private List<EventChange> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildAll();
+    }
+
+    /**
+     * Periodic full rebuild: compacts the indexes and catches writes made by other instances
+     */
+    @Scheduled(fixedDelayString = "${eventy.index.rebuild-interval:PT15M}",
+               initialDelayString = "${eventy.index.rebuild-interval:PT15M}")
+    public void rebuildAll() {
+        List<EventIndex> enabled = indexes.stream().filter(EventIndex::isEnabled).toList();
+        if (enabled.isEmpty()) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                return; // Un rebuild est déjà en cours
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            long start = System.nanoTime();
+            List<EventSnapshot> events = eventRepository.findAllSnapshots();
+            enabled.forEach(index -> index.rebuild(events));
+            log.info("Rebuilt {} event index(es) with {} events in {} ms",
+                    enabled.size(), events.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            synchronized (rebuildLock) {
+                changesDuringRebuild.forEach(change -> enabled.forEach(index -> index.apply(change)));
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Applied after commit only, so that rolled back writes never reach the indexes.
+     * Changes are applied one at a time to keep them ordered with the replay of a rebuild.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+            for (EventIndex index : indexes) {
+                if (index.isEnabled()) {
+                    index.apply(change);
+                }
+            }
+        }
+    }
+}
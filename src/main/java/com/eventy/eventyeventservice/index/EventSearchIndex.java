@@ -0,0 +1,253 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.service.SearchMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index over event name, description and location.
+ * <p>
+ * Each event gets a dense ordinal; postings are sorted {@code int[]} arrays of ordinals,
+ * replaced copy-on-write so that readers never take a lock. Incremental updates are applied
+ * to the live segment, full rebuilds are built aside and swapped in one volatile write.
+ * Query tokens are matched as prefixes of indexed terms (all tokens must match).
+ */
+@Component
+public class EventSearchIndex implements EventIndex {
+
+    @Value("${eventy.search.mode:like}")
+    private SearchMode searchMode = SearchMode.LIKE;
+
+    // Même ordre que la pagination par clé des requêtes SQL : (date de début, ID)
+    private static final Comparator<Doc> BY_START_DATE =
+            Comparator.comparing(Doc::startDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(Doc::eventId);
+
+    private volatile Segment segment = new Segment();
+    private volatile boolean ready;
+
+    @Override
+    public boolean isEnabled() {
+        return searchMode == SearchMode.MEMORY;
+    }
+
+    /**
+     * True once a first full load has been swapped in
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        Segment fresh = new Segment();
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (EventSnapshot event : events) {
+            Doc doc = fresh.newDoc(event);
+            for (String term : doc.terms()) {
+                postings.computeIfAbsent(term, t -> new ArrayList<>()).add(doc.ordinal());
+            }
+        }
+        postings.forEach((term, ordinals) ->
+                fresh.postings.put(term, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        segment = fresh;
+        ready = true;
+    }
+
+    @Override
+    public void apply(EventChange change) {
+        Segment current = segment;
+        synchronized (current) {
+            current.remove(change.eventId());
+            if (change.after() != null) {
+                current.add(change.after());
+            }
+        }
+    }
+
+    /**
+     * Matching event with its sort key
+     */
+    public record Hit(UUID eventId, LocalDate startDate) {
+    }
+
+    /**
+     * Find matching event IDs ordered by start date, then ID.
+     *
+     * @param keyword    free text, tokens are matched as term prefixes (null or blank matches everything)
+     * @param location   substring of the location, accent and case insensitive (optional)
+     * @param categoryId category filter (optional)
+     * @param activeOnly restrict to events with status 'active'
+     */
+    public List<UUID> search(String keyword, String location, UUID categoryId, boolean activeOnly) {
+        List<Doc> matches = matches(keyword, location, categoryId, activeOnly, null);
+        matches.sort(BY_START_DATE);
+        return matches.stream().map(Doc::eventId).toList();
+    }
+
+    /**
+     * One page of the active matching events, in the order of {@link #search}, starting after a position
+     *
+     * @param after position of the last event of the previous page (null for the first page)
+     * @param limit maximum number of hits
+     */
+    public List<Hit> page(String keyword, String location, UUID categoryId, Hit after, int limit) {
+        Doc position = after != null ? new Doc(-1, after.eventId(), null, null, null, false, after.startDate()) : null;
+        List<Doc> matches = matches(keyword, location, categoryId, true, position);
+        matches.sort(BY_START_DATE);
+        return matches.stream().limit(limit).map(doc -> new Hit(doc.eventId(), doc.startDate())).toList();
+    }
+
+    private List<Doc> matches(String keyword, String location, UUID categoryId, boolean activeOnly, Doc after) {
+        Segment current = segment;
+        String foldedLocation = TextNormalizer.fold(location);
+
+        List<Doc> matches = new ArrayList<>();
+        BitSet candidates = current.match(TextNormalizer.tokenize(keyword));
+        if (candidates == null) {
+            current.docs.values().forEach(doc -> collect(doc, foldedLocation, categoryId, activeOnly, after, matches));
+        } else {
+            for (int ord = candidates.nextSetBit(0); ord >= 0; ord = candidates.nextSetBit(ord + 1)) {
+                Doc doc = current.docs.get(ord);
+                if (doc != null) {
+                    collect(doc, foldedLocation, categoryId, activeOnly, after, matches);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Number of events currently indexed
+     */
+    public int size() {
+        return segment.docs.size();
+    }
+
+    private static void collect(Doc doc, String location, UUID categoryId, boolean activeOnly, Doc after,
+                                List<Doc> out) {
+        if (activeOnly && !doc.active()) {
+            return;
+        }
+        if (after != null && BY_START_DATE.compare(doc, after) <= 0) {
+            return;
+        }
+        if (!location.isEmpty() && !doc.location().contains(location)) {
+            return;
+        }
+        if (categoryId != null && !categoryId.equals(doc.categoryId())) {
+            return;
+        }
+        out.add(doc);
+    }
+
+    private record Doc(int ordinal, UUID eventId, String[] terms, String location,
+                       UUID categoryId, boolean active, LocalDate startDate) {
+    }
+
+    /**
+     * One generation of the index. Mutations are serialized by the caller (synchronized on the segment),
+     * reads are lock-free.
+     */
+    private static final class Segment {
+        private final NavigableMap<String, int[]> postings = new ConcurrentSkipListMap<>();
+        private final Map<Integer, Doc> docs = new ConcurrentHashMap<>();
+        private final Map<UUID, Integer> ordinals = new ConcurrentHashMap<>();
+        private int nextOrdinal;
+
+        private Doc newDoc(EventSnapshot event) {
+            Set<String> terms = new LinkedHashSet<>();
+            terms.addAll(TextNormalizer.tokenize(event.name()));
+            terms.addAll(TextNormalizer.tokenize(event.description()));
+            terms.addAll(TextNormalizer.tokenize(event.location()));
+            Doc doc = new Doc(nextOrdinal++, event.eventId(), terms.toArray(String[]::new),
+                    TextNormalizer.fold(event.location()), event.categoryId(), event.isActive(), event.startDate());
+            docs.put(doc.ordinal(), doc);
+            ordinals.put(doc.eventId(), doc.ordinal());
+            return doc;
+        }
+
+        private void add(EventSnapshot event) {
+            Doc doc = newDoc(event);
+            // Les ordinaux sont croissants : un ajout en fin de tableau garde les postings triés
+            for (String term : doc.terms()) {
+                int[] current = postings.get(term);
+                if (current == null) {
+                    postings.put(term, new int[]{doc.ordinal()});
+                } else {
+                    int[] copy = Arrays.copyOf(current, current.length + 1);
+                    copy[current.length] = doc.ordinal();
+                    postings.put(term, copy);
+                }
+            }
+        }
+
+        private void remove(UUID eventId) {
+            Integer ordinal = ordinals.remove(eventId);
+            if (ordinal == null) {
+                return;
+            }
+            Doc doc = docs.get(ordinal);
+            for (String term : doc.terms()) {
+                int[] current = postings.get(term);
+                int pos = current != null ? Arrays.binarySearch(current, ordinal) : -1;
+                if (pos < 0) {
+                    continue;
+                }
+                if (current.length == 1) {
+                    postings.remove(term);
+                } else {
+                    int[] copy = new int[current.length - 1];
+                    System.arraycopy(current, 0, copy, 0, pos);
+                    System.arraycopy(current, pos + 1, copy, pos, current.length - pos - 1);
+                    postings.put(term, copy);
+                }
+            }
+            docs.remove(ordinal);
+        }
+
+        /**
+         * Ordinals matching every token (as a term prefix), or null when there is no token at all
+         */
+        private BitSet match(List<String> tokens) {
+            if (tokens.isEmpty()) {
+                return null;
+            }
+            BitSet result = null;
+            for (String token : tokens) {
+                BitSet tokenMatches = new BitSet();
+                for (int[] ordinals : postings.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                    for (int ordinal : ordinals) {
+                        tokenMatches.set(ordinal);
+                    }
+                }
+                if (result == null) {
+                    result = tokenMatches;
+                } else {
+                    result.and(tokenMatches);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+}
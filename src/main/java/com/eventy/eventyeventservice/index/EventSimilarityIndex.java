@@ -0,0 +1,382 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.repository.FavoritePair;
+import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Item-to-item "similar events" from co-favorites: cosine similarity between the sets of users who
+ * favorited two events, {@code |A ∩ B| / sqrt(|A| |B|)}.
+ * <p>
+ * The model (users per event and events per user, as compressed bitmaps over dense ints) is owned by a
+ * background job: a full refresh reloads it from the favorite table, an incremental refresh applies the queued
+ * {@link FavoriteChange}s and recomputes only the touched events and their current neighbors. Each run
+ * publishes the top neighbors of the recomputed events as plain arrays; requests only read those lists and
+ * filter them to the active upcoming events, so they never touch the database.
+ * <p>
+ * Users with a very large number of favorites are skipped when counting co-favorites: they add little signal
+ * and would make the cost quadratic in their favorite count.
+ */
+@Slf4j
+@Component
+public class EventSimilarityIndex implements EventIndex {
+
+    private final FavoriteRepository favoriteRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${eventy.similarity.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${eventy.similarity.neighbors:50}")
+    private int maxNeighbors = 50;
+
+    @Value("${eventy.similarity.max-user-favorites:500}")
+    private int maxUserFavorites = 500;
+
+    // Lu par les requêtes
+    private final Map<UUID, Neighbors> neighbors = new ConcurrentHashMap<>();
+    private final Map<UUID, LocalDate> eligible = new ConcurrentHashMap<>();
+
+    // Modèle : modifié uniquement par le job (méthodes synchronisées)
+    private final ConcurrentLinkedQueue<FavoriteChange> pendingChanges = new ConcurrentLinkedQueue<>();
+    private Model model;
+
+    /**
+     * Neighbors of an event, most similar first
+     */
+    private record Neighbors(UUID[] eventIds, float[] similarities) {
+    }
+
+    /**
+     * Event ID and its similarity (or summed similarity, for recommendations)
+     */
+    public record Hit(UUID eventId, double score) {
+    }
+
+    public EventSimilarityIndex(FavoriteRepository favoriteRepository, PlatformTransactionManager transactionManager) {
+        this.favoriteRepository = favoriteRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Maximum number of neighbors kept per event
+     */
+    public int capacity() {
+        return maxNeighbors;
+    }
+
+    /**
+     * Only the eligibility of the events (active, not over) is derived from the catalog
+     */
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        LocalDate today = LocalDate.now();
+        Map<UUID, LocalDate> fresh = new HashMap<>();
+        for (EventSnapshot event : events) {
+            LocalDate lastDay = lastDay(event, today);
+            if (lastDay != null) {
+                fresh.put(event.eventId(), lastDay);
+            }
+        }
+        eligible.keySet().retainAll(fresh.keySet());
+        eligible.putAll(fresh);
+    }
+
+    @Override
+    public void apply(EventChange change) {
+        LocalDate lastDay = change.after() != null ? lastDay(change.after(), LocalDate.now()) : null;
+        if (lastDay != null) {
+            eligible.put(change.eventId(), lastDay);
+        } else {
+            eligible.remove(change.eventId());
+        }
+        if (change.type() == EventChange.Type.DELETED) {
+            neighbors.remove(change.eventId());
+        }
+    }
+
+    /**
+     * Queued after commit, applied by the next incremental refresh
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        if (enabled) {
+            pendingChanges.add(change);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            refreshAll();
+        }
+    }
+
+    /**
+     * Reload the favorites and recompute the neighbors of every event
+     */
+    @Scheduled(fixedDelayString = "${eventy.similarity.refresh-interval:PT1H}",
+               initialDelayString = "${eventy.similarity.refresh-interval:PT1H}")
+    public synchronized void refreshAll() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        // Les changements validés pendant le chargement sont rejoués ensuite : ajouts et retraits sont idempotents
+        pendingChanges.clear();
+        Model fresh = new Model();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<FavoritePair> pairs = favoriteRepository.streamAllPairs()) {
+                pairs.forEach(pair -> fresh.add(pair.userId(), pair.eventId()));
+            }
+        });
+        model = fresh;
+
+        Set<UUID> kept = new HashSet<>();
+        for (int event = 0; event < fresh.eventIds.size(); event++) {
+            kept.add(fresh.eventIds.get(event));
+            publish(fresh, event);
+        }
+        neighbors.keySet().retainAll(kept);
+        log.info("Computed similar events of {} events from the favorites of {} users in {} ms",
+                fresh.eventIds.size(), fresh.eventsOfUser.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Apply the queued favorite changes and recompute the touched events and their current neighbors
+     */
+    @Scheduled(fixedDelayString = "${eventy.similarity.incremental-interval:PT1M}")
+    public synchronized void refreshChanged() {
+        if (!enabled || model == null || pendingChanges.isEmpty()) {
+            return;
+        }
+        Set<Integer> dirty = new HashSet<>();
+        Set<Integer> users = new HashSet<>();
+        FavoriteChange change;
+        while ((change = pendingChanges.poll()) != null) {
+            if (change.type() == FavoriteChange.Type.ADDED) {
+                dirty.add(model.add(change.userId(), change.eventId()));
+                users.add(model.userIndexes.get(change.userId()));
+            } else {
+                Integer event = model.remove(change.userId(), change.eventId());
+                if (event != null) {
+                    dirty.add(event);
+                    users.add(model.userIndexes.get(change.userId()));
+                }
+            }
+        }
+        // Co-comptes modifiés : paires (événement touché, autres favoris de l'utilisateur) ;
+        // norme modifiée : voisins actuels des événements touchés
+        Set<Integer> recomputed = new HashSet<>(dirty);
+        for (int user : users) {
+            RoaringBitmap events = model.eventsOfUser.get(user);
+            if (events.getCardinality() <= maxUserFavorites) {
+                events.forEach((int event) -> recomputed.add(event));
+            }
+        }
+        for (int event : dirty) {
+            Neighbors current = neighbors.get(model.eventIds.get(event));
+            if (current != null) {
+                for (UUID neighbor : current.eventIds()) {
+                    Integer index = model.eventIndexes.get(neighbor);
+                    if (index != null) {
+                        recomputed.add(index);
+                    }
+                }
+            }
+        }
+        recomputed.forEach(event -> publish(model, event));
+        log.debug("Recomputed similar events of {} events", recomputed.size());
+    }
+
+    /**
+     * Most similar active upcoming events
+     */
+    public List<Hit> similar(UUID eventId, int limit) {
+        List<Hit> result = new ArrayList<>();
+        Neighbors current = neighbors.get(eventId);
+        if (current == null) {
+            return result;
+        }
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < current.eventIds().length && result.size() < limit; i++) {
+            if (isEligible(current.eventIds()[i], today)) {
+                result.add(new Hit(current.eventIds()[i], current.similarities()[i]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Active upcoming events most similar to a set of favorites (similarities summed over the favorites),
+     * excluding the favorites themselves
+     */
+    public List<Hit> recommend(Collection<UUID> favoriteIds, int limit) {
+        Set<UUID> excluded = new HashSet<>(favoriteIds);
+        Map<UUID, Double> scores = new HashMap<>();
+        for (UUID favoriteId : excluded) {
+            Neighbors current = neighbors.get(favoriteId);
+            if (current != null) {
+                for (int i = 0; i < current.eventIds().length; i++) {
+                    UUID candidate = current.eventIds()[i];
+                    if (!excluded.contains(candidate)) {
+                        scores.merge(candidate, (double) current.similarities()[i], Double::sum);
+                    }
+                }
+            }
+        }
+        LocalDate today = LocalDate.now();
+        return scores.entrySet().stream()
+                .filter(entry -> isEligible(entry.getKey(), today))
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> new Hit(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private boolean isEligible(UUID eventId, LocalDate today) {
+        LocalDate lastDay = eligible.get(eventId);
+        return lastDay != null && !lastDay.isBefore(today);
+    }
+
+    private static LocalDate lastDay(EventSnapshot event, LocalDate today) {
+        LocalDate lastDay = event.endDate() != null ? event.endDate() : event.startDate();
+        return event.isActive() && lastDay != null && !lastDay.isBefore(today) ? lastDay : null;
+    }
+
+    // Cosinus sur les co-favoris, accumulés dans les tableaux réutilisables du modèle (remis à zéro après usage)
+    private void publish(Model current, int event) {
+        UUID eventId = current.eventIds.get(event);
+        RoaringBitmap users = current.usersOfEvent.get(event);
+        if (users.isEmpty()) {
+            neighbors.remove(eventId);
+            return;
+        }
+        int[] coCounts = current.coCounts();
+        int[] touched = current.touched();
+        int touchedCount = 0;
+        IntIterator userIterator = users.getIntIterator();
+        while (userIterator.hasNext()) {
+            RoaringBitmap events = current.eventsOfUser.get(userIterator.next());
+            if (events.getCardinality() > maxUserFavorites) {
+                continue;
+            }
+            IntIterator eventIterator = events.getIntIterator();
+            while (eventIterator.hasNext()) {
+                int other = eventIterator.next();
+                if (other != event && coCounts[other]++ == 0) {
+                    touched[touchedCount++] = other;
+                }
+            }
+        }
+
+        // Tas min borné : les maxNeighbors meilleures similarités
+        PriorityQueue<double[]> best = new PriorityQueue<>((a, b) -> Double.compare(a[1], b[1]));
+        double size = users.getCardinality();
+        for (int i = 0; i < touchedCount; i++) {
+            int other = touched[i];
+            double similarity = coCounts[other] / Math.sqrt(size * current.usersOfEvent.get(other).getCardinality());
+            coCounts[other] = 0;
+            if (best.size() < maxNeighbors) {
+                best.add(new double[]{other, similarity});
+            } else if (similarity > best.peek()[1]) {
+                best.poll();
+                best.add(new double[]{other, similarity});
+            }
+        }
+        UUID[] eventIds = new UUID[best.size()];
+        float[] similarities = new float[best.size()];
+        for (int i = best.size() - 1; i >= 0; i--) {
+            double[] entry = best.poll();
+            eventIds[i] = current.eventIds.get((int) entry[0]);
+            similarities[i] = (float) entry[1];
+        }
+        neighbors.put(eventId, new Neighbors(eventIds, similarities));
+    }
+
+    /**
+     * Favorites as bitmaps over dense user and event ints. Not thread-safe: owned by the refresh job.
+     */
+    private static final class Model {
+        private final Map<UUID, Integer> eventIndexes = new HashMap<>();
+        private final List<UUID> eventIds = new ArrayList<>();
+        private final List<RoaringBitmap> usersOfEvent = new ArrayList<>();
+        private final Map<UUID, Integer> userIndexes = new HashMap<>();
+        private final List<RoaringBitmap> eventsOfUser = new ArrayList<>();
+        private int[] coCounts = new int[0];
+        private int[] touched = new int[0];
+
+        private int add(UUID userId, UUID eventId) {
+            int user = userIndexes.computeIfAbsent(userId, id -> {
+                eventsOfUser.add(new RoaringBitmap());
+                return eventsOfUser.size() - 1;
+            });
+            int event = eventIndexes.computeIfAbsent(eventId, id -> {
+                eventIds.add(id);
+                usersOfEvent.add(new RoaringBitmap());
+                return eventIds.size() - 1;
+            });
+            usersOfEvent.get(event).add(user);
+            eventsOfUser.get(user).add(event);
+            return event;
+        }
+
+        private Integer remove(UUID userId, UUID eventId) {
+            Integer user = userIndexes.get(userId);
+            Integer event = eventIndexes.get(eventId);
+            if (user == null || event == null) {
+                return null;
+            }
+            usersOfEvent.get(event).remove(user);
+            eventsOfUser.get(user).remove(event);
+            return event;
+        }
+
+        private int[] coCounts() {
+            if (coCounts.length < eventIds.size()) {
+                coCounts = new int[eventIds.size()];
+            }
+            return coCounts;
+        }
+
+        private int[] touched() {
+            if (touched.length < eventIds.size()) {
+                touched = new int[eventIds.size()];
+            }
+            return touched;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Autocomplete over the names and locations of active, not yet finished events.
+ * <p>
+ * Names are indexed under each of their word suffixes ("Grand Concert de Noël" is found with "conc" or "noel")
+ * and ranked by nearest start date; locations are ranked by number of events.
+ * Everything is accent and case folded.
+ */
+@Component
+public class EventSuggestIndex implements EventIndex {
+
+    /** Upper bound of the number of suggestions of each kind */
+    public static final int MAX_SUGGESTIONS = 20;
+
+    // Au-delà, les suffixes n'apportent plus grand-chose et gonflent l'index
+    private static final int MAX_INDEXED_SUFFIXES = 8;
+
+    private static final Comparator<NameSuggestion> BY_START_DATE =
+            Comparator.comparing(NameSuggestion::startDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(NameSuggestion::name)
+                    .thenComparing(NameSuggestion::eventId);
+
+    private static final Comparator<LocationSuggestion> BY_POPULARITY =
+            Comparator.comparingInt(LocationSuggestion::eventCount).reversed()
+                    .thenComparing(LocationSuggestion::location);
+
+    private volatile Generation generation = new Generation();
+
+    // Remplaçable par les tests
+    Clock clock = Clock.systemDefaultZone();
+
+    public record NameSuggestion(UUID eventId, String name, String location, LocalDate startDate, LocalDate lastDay) {
+    }
+
+    public record LocationSuggestion(String location, int eventCount) {
+    }
+
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        Generation fresh = new Generation();
+        LocalDate today = LocalDate.now(clock);
+        events.forEach(event -> fresh.add(event, today));
+        generation = fresh;
+    }
+
+    @Override
+    public void apply(EventChange change) {
+        Generation current = generation;
+        synchronized (current) {
+            current.remove(change.eventId());
+            if (change.after() != null) {
+                current.add(change.after(), LocalDate.now(clock));
+            }
+        }
+    }
+
+    /**
+     * Events whose name contains a word starting with the prefix, soonest first
+     */
+    public List<NameSuggestion> suggestNames(String prefix, int limit) {
+        LocalDate today = LocalDate.now(clock);
+        while (true) {
+            Generation current = generation;
+            List<NameSuggestion> top = current.names.top(key(prefix), limit);
+            List<NameSuggestion> ended = top.stream()
+                    .filter(suggestion -> suggestion.lastDay().isBefore(today))
+                    .toList();
+            if (ended.isEmpty()) {
+                return top;
+            }
+            // Les événements terminés depuis le dernier rebuild occupent les premiers rangs (date la plus proche) :
+            // ils sont retirés de l'index, puis le top est recalculé pour rester complet
+            synchronized (current) {
+                ended.forEach(current::removeEnded);
+            }
+        }
+    }
+
+    /**
+     * Distinct locations containing a word starting with the prefix, most used first
+     */
+    public List<LocationSuggestion> suggestLocations(String prefix, int limit) {
+        return generation.locations.top(key(prefix), limit);
+    }
+
+    private static String key(String text) {
+        return String.join(" ", TextNormalizer.tokenize(text));
+    }
+
+    private static List<String> suffixKeys(String text) {
+        List<String> tokens = TextNormalizer.tokenize(text);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < tokens.size() && i < MAX_INDEXED_SUFFIXES; i++) {
+            keys.add(String.join(" ", tokens.subList(i, tokens.size())));
+        }
+        return keys;
+    }
+
+    /**
+     * One generation of the index. Mutations are serialized by the caller (synchronized on the generation).
+     */
+    private static final class Generation {
+        private final PrefixTrie<NameSuggestion> names = new PrefixTrie<>(BY_START_DATE, MAX_SUGGESTIONS);
+        private final PrefixTrie<LocationSuggestion> locations = new PrefixTrie<>(BY_POPULARITY, MAX_SUGGESTIONS);
+        private final Map<UUID, NameSuggestion> byEvent = new HashMap<>();
+        private final Map<String, LocationSuggestion> byLocation = new HashMap<>();
+
+        private void add(EventSnapshot event, LocalDate today) {
+            LocalDate lastDay = event.endDate() != null ? event.endDate() : event.startDate();
+            if (!event.isActive() || event.name() == null || lastDay == null || lastDay.isBefore(today)) {
+                return;
+            }
+            NameSuggestion suggestion = new NameSuggestion(event.eventId(), event.name(), event.location(),
+                    event.startDate(), lastDay);
+            byEvent.put(event.eventId(), suggestion);
+            suffixKeys(event.name()).forEach(key -> names.put(key, suggestion));
+            updateLocation(event.location(), 1);
+        }
+
+        // Uniquement si l'événement n'a pas été modifié entre-temps
+        private void removeEnded(NameSuggestion suggestion) {
+            if (suggestion.equals(byEvent.get(suggestion.eventId()))) {
+                remove(suggestion.eventId());
+            }
+        }
+
+        private void remove(UUID eventId) {
+            NameSuggestion suggestion = byEvent.remove(eventId);
+            if (suggestion == null) {
+                return;
+            }
+            suffixKeys(suggestion.name()).forEach(key -> names.remove(key, suggestion));
+            updateLocation(suggestion.location(), -1);
+        }
+
+        // Le compteur fait partie du rang : l'entrée est retirée puis réinsérée avec le nouveau compte
+        private void updateLocation(String location, int delta) {
+            String folded = key(location);
+            if (folded.isEmpty()) {
+                return;
+            }
+            LocationSuggestion previous = byLocation.remove(folded);
+            if (previous != null) {
+                suffixKeys(previous.location()).forEach(key -> locations.remove(key, previous));
+            }
+            int count = (previous != null ? previous.eventCount() : 0) + delta;
+            if (count > 0) {
+                LocationSuggestion updated = new LocationSuggestion(
+                        previous != null ? previous.location() : location.trim(), count);
+                byLocation.put(folded, updated);
+                suffixKeys(updated.location()).forEach(key -> locations.put(key, updated));
+            }
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.repository.FavoriteActivity;
+import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trending ranking of the active upcoming events, from exponentially time-decayed favorite additions and views.
+ * <p>
+ * Scores use forward decay: a signal received at time t adds {@code weight * e^(λ(t - landmark))}, so that
+ * older signals never need to be decayed (every score would be divided by the same factor at read time).
+ * A signal is O(1) on the score map, plus O(log K) on the bounded top-K of its category and of the whole
+ * catalog when it enters them; a request reads a top-K and never sorts the catalog.
+ * <p>
+ * The landmark is moved forward (all scores rescaled) by the periodic rebuild, or when the exponent grows
+ * too large. Scores live in memory only: the first load seeds them from the recent favorites.
+ * Removing a favorite does not lower the score, which keeps the scores monotonic between rescales.
+ */
+@Slf4j
+@Component
+public class EventTrendingIndex implements EventIndex {
+
+    // e^40 ≈ 2.10^17 : marge confortable avant tout dépassement de double
+    private static final double MAX_EXPONENT = 40;
+
+    private static final Comparator<Ranked> BY_SCORE = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::eventId);
+
+    private final FavoriteRepository favoriteRepository;
+    private final double lambda;
+    private final int capacity;
+
+    @Value("${eventy.trending.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${eventy.trending.favorite-weight:5}")
+    private double favoriteWeight = 5;
+
+    @Value("${eventy.trending.view-weight:1}")
+    private double viewWeight = 1;
+
+    @Value("${eventy.trending.seed-days:7}")
+    private int seedDays = 7;
+
+    Clock clock = Clock.systemUTC();
+
+    // Lecture : signaux et requêtes (structures concurrentes) ; écriture : rebuild et changement de repère
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Tracked> events = new ConcurrentHashMap<>();
+    private final Map<UUID, Double> scores = new ConcurrentHashMap<>();
+    private final Map<UUID, TopK> byCategory = new ConcurrentHashMap<>();
+    private volatile TopK global;
+    private volatile double landmark;
+    private boolean seeded;
+
+    /**
+     * Event ID and its decayed score at the time of the request
+     */
+    public record Hit(UUID eventId, double score) {
+    }
+
+    private record Tracked(UUID categoryId, LocalDate lastDay) {
+    }
+
+    private record Ranked(UUID eventId, double score) {
+    }
+
+    public EventTrendingIndex(FavoriteRepository favoriteRepository,
+                              @Value("${eventy.trending.half-life:PT24H}") Duration halfLife,
+                              @Value("${eventy.trending.top-k:100}") int capacity) {
+        if (halfLife.isZero() || halfLife.isNegative()) {
+            throw new IllegalArgumentException("eventy.trending.half-life must be positive");
+        }
+        this.favoriteRepository = favoriteRepository;
+        this.lambda = Math.log(2) / halfLife.toSeconds();
+        this.capacity = Math.max(1, capacity);
+        this.global = new TopK(this.capacity);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Maximum number of events a trending request can return
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Reload the eligible events, move the landmark to now and rebuild the top-K from the retained scores
+     */
+    @Override
+    public void rebuild(List<EventSnapshot> snapshots) {
+        LocalDate today = LocalDate.now(clock);
+        lock.writeLock().lock();
+        try {
+            events.clear();
+            for (EventSnapshot event : snapshots) {
+                Tracked tracked = track(event, today);
+                if (tracked != null) {
+                    events.put(event.eventId(), tracked);
+                }
+            }
+            scores.keySet().retainAll(events.keySet());
+            if (!seeded) {
+                seed(today);
+                seeded = true;
+            }
+            moveLandmark();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(EventChange change) {
+        lock.readLock().lock();
+        try {
+            Tracked previous = events.remove(change.eventId());
+            Tracked tracked = change.after() != null ? track(change.after(), LocalDate.now(clock)) : null;
+            if (tracked == null) {
+                scores.remove(change.eventId());
+                global.remove(change.eventId());
+                if (previous != null) {
+                    removeFromCategory(previous.categoryId(), change.eventId());
+                }
+                return;
+            }
+            events.put(change.eventId(), tracked);
+            if (previous != null && !Objects.equals(previous.categoryId(), tracked.categoryId())) {
+                removeFromCategory(previous.categoryId(), change.eventId());
+                Double score = scores.get(change.eventId());
+                if (score != null) {
+                    offerToCategory(tracked.categoryId(), change.eventId(), score);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applied after commit only, so that rolled back favorites never count
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        if (change.type() == FavoriteChange.Type.ADDED) {
+            record(change.eventId(), favoriteWeight);
+        }
+    }
+
+    /**
+     * Count one view of the event detail
+     */
+    public void recordView(UUID eventId) {
+        record(eventId, viewWeight);
+    }
+
+    /**
+     * Highest scored active upcoming events, of one category or of the whole catalog
+     *
+     * @param categoryId null for the whole catalog
+     */
+    public List<Hit> trending(UUID categoryId, int limit) {
+        LocalDate today = LocalDate.now(clock);
+        List<Hit> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            TopK ranking = categoryId != null ? byCategory.get(categoryId) : global;
+            if (ranking == null) {
+                return result;
+            }
+            double decay = Math.exp(-lambda * (now() - landmark));
+            for (Ranked ranked : ranking.top()) {
+                Tracked event = events.get(ranked.eventId());
+                // Les événements passés depuis le dernier rebuild sont ignorés à la lecture
+                if (event != null && !event.lastDay().isBefore(today)) {
+                    result.add(new Hit(ranked.eventId(), ranked.score() * decay));
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void record(UUID eventId, double weight) {
+        if (!enabled || weight <= 0) {
+            return;
+        }
+        boolean rescale;
+        lock.readLock().lock();
+        try {
+            Tracked event = events.get(eventId);
+            if (event == null) {
+                return; // Événement inactif ou passé : pas classé
+            }
+            double exponent = lambda * (now() - landmark);
+            double score = scores.merge(eventId, weight * Math.exp(exponent), Double::sum);
+            global.offer(eventId, score);
+            offerToCategory(event.categoryId(), eventId, score);
+            rescale = exponent > MAX_EXPONENT;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (rescale) {
+            lock.writeLock().lock();
+            try {
+                moveLandmark();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Sous le verrou d'écriture : scores ramenés au nouveau repère, top-K recalculés
+    private void moveLandmark() {
+        // Un score peut avoir été ajouté pendant le retrait concurrent de son événement
+        scores.keySet().retainAll(events.keySet());
+        double now = now();
+        double factor = Math.exp(-lambda * (now - landmark));
+        scores.replaceAll((eventId, score) -> score * factor);
+        landmark = now;
+
+        global = new TopK(capacity);
+        byCategory.clear();
+        scores.forEach((eventId, score) -> {
+            global.offer(eventId, score);
+            offerToCategory(events.get(eventId).categoryId(), eventId, score);
+        });
+    }
+
+    // Sous le verrou d'écriture, avant le premier changement de repère
+    private void seed(LocalDate today) {
+        landmark = now();
+        try {
+            List<FavoriteActivity> activity = favoriteRepository.countAddedSince(today.minusDays(seedDays));
+            for (FavoriteActivity day : activity) {
+                if (events.containsKey(day.eventId())) {
+                    double addedAt = day.addedDate().atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+                    double weight = favoriteWeight * day.count() * Math.exp(lambda * (addedAt - landmark));
+                    scores.merge(day.eventId(), weight, Double::sum);
+                }
+            }
+            log.info("Seeded trending scores of {} events from {} days of favorites", scores.size(), seedDays);
+        } catch (RuntimeException e) {
+            log.warn("Could not seed trending scores from the favorites", e);
+        }
+    }
+
+    private void offerToCategory(UUID categoryId, UUID eventId, double score) {
+        if (categoryId != null) {
+            byCategory.computeIfAbsent(categoryId, id -> new TopK(capacity)).offer(eventId, score);
+        }
+    }
+
+    private void removeFromCategory(UUID categoryId, UUID eventId) {
+        TopK ranking = categoryId != null ? byCategory.get(categoryId) : null;
+        if (ranking != null) {
+            ranking.remove(eventId);
+        }
+    }
+
+    private Tracked track(EventSnapshot event, LocalDate today) {
+        LocalDate lastDay = event.endDate() != null ? event.endDate() : event.startDate();
+        if (!event.isActive() || lastDay == null || lastDay.isBefore(today)) {
+            return null;
+        }
+        return new Tracked(event.categoryId(), lastDay);
+    }
+
+    private double now() {
+        return clock.millis() / 1000.0;
+    }
+
+    /**
+     * The {@code capacity} highest scores. Scores only grow between rescales, so a signal below the
+     * current threshold of a full ranking cannot enter it and is rejected without locking.
+     */
+    private static final class TopK {
+        private final int capacity;
+        private final TreeSet<Ranked> ranking = new TreeSet<>(BY_SCORE);
+        private final Map<UUID, Ranked> members = new HashMap<>();
+        private volatile double threshold = Double.NEGATIVE_INFINITY;
+
+        private TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void offer(UUID eventId, double score) {
+            if (score < threshold) {
+                return;
+            }
+            synchronized (this) {
+                Ranked previous = members.get(eventId);
+                if (previous != null) {
+                    ranking.remove(previous);
+                }
+                Ranked ranked = new Ranked(eventId, score);
+                ranking.add(ranked);
+                members.put(eventId, ranked);
+                if (ranking.size() > capacity) {
+                    members.remove(ranking.pollLast().eventId());
+                }
+                updateThreshold();
+            }
+        }
+
+        private synchronized void remove(UUID eventId) {
+            Ranked previous = members.remove(eventId);
+            if (previous != null) {
+                ranking.remove(previous);
+                updateThreshold();
+            }
+        }
+
+        private synchronized List<Ranked> top() {
+            return new ArrayList<>(ranking);
+        }
+
+        private void updateThreshold() {
+            threshold = ranking.size() < capacity ? Double.NEGATIVE_INFINITY : ranking.last().score();
+        }
+    }
+}
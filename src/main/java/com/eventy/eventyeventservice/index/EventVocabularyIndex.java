@@ -0,0 +1,119 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vocabulary of the words used in event names and locations, for typo-tolerant searches.
+ * <p>
+ * Words are reference-counted per event and looked up accent-folded through a {@link BkTree}. Words that are
+ * no longer used stay in the tree (ignored at lookup) until the next full rebuild.
+ */
+@Component
+public class EventVocabularyIndex implements EventIndex {
+
+    // Les mots plus courts sont trop ambigus pour être corrigés
+    private static final int MIN_CORRECTED_LENGTH = 4;
+    private static final int LONG_WORD_LENGTH = 6;
+
+    private volatile Generation generation = new Generation();
+
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        Generation fresh = new Generation();
+        events.forEach(fresh::add);
+        generation = fresh;
+    }
+
+    @Override
+    public void apply(EventChange change) {
+        Generation current = generation;
+        synchronized (current) {
+            current.remove(change.eventId());
+            if (change.after() != null) {
+                current.add(change.after());
+            }
+        }
+    }
+
+    /**
+     * Replace each unknown word of the keyword by the closest vocabulary word (1 edit for words of up to
+     * 5 letters, 2 beyond), preferring the most used one.
+     *
+     * @return the corrected keyword, or the keyword itself when every word is known or has no close match
+     */
+    public String correct(String keyword) {
+        Generation current = generation;
+        List<String> words = TextNormalizer.words(keyword);
+        List<String> corrected = new ArrayList<>(words.size());
+        boolean changed = false;
+        for (String word : words) {
+            String folded = TextNormalizer.fold(word);
+            String replacement = null;
+            if (folded.length() >= MIN_CORRECTED_LENGTH && !current.counts.containsKey(folded)) {
+                replacement = current.closest(folded, folded.length() < LONG_WORD_LENGTH ? 1 : 2);
+            }
+            corrected.add(replacement != null ? replacement : word);
+            changed |= replacement != null;
+        }
+        return changed ? String.join(" ", corrected) : keyword;
+    }
+
+    /**
+     * Number of distinct words currently in use
+     */
+    public int size() {
+        return generation.counts.size();
+    }
+
+    /**
+     * One generation of the index. Mutations are serialized by the caller (synchronized on the generation).
+     */
+    private static final class Generation {
+        private final BkTree tree = new BkTree();
+        private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+        // Orthographe d'origine (avec accents) de chaque mot normalisé
+        private final Map<String, String> spellings = new ConcurrentHashMap<>();
+        private final Map<UUID, List<String>> wordsByEvent = new ConcurrentHashMap<>();
+
+        private void add(EventSnapshot event) {
+            List<String> words = new ArrayList<>(TextNormalizer.words(event.name()));
+            words.addAll(TextNormalizer.words(event.location()));
+            List<String> folded = new ArrayList<>(words.size());
+            for (String word : words) {
+                String key = TextNormalizer.fold(word);
+                folded.add(key);
+                spellings.putIfAbsent(key, word);
+                if (counts.merge(key, 1, Integer::sum) == 1) {
+                    tree.add(key);
+                }
+            }
+            wordsByEvent.put(event.eventId(), folded);
+        }
+
+        private void remove(UUID eventId) {
+            List<String> words = wordsByEvent.remove(eventId);
+            if (words != null) {
+                words.forEach(word -> counts.computeIfPresent(word, (key, count) -> count > 1 ? count - 1 : null));
+            }
+        }
+
+        private String closest(String word, int maxDistance) {
+            return tree.search(word, maxDistance).stream()
+                    .filter(match -> counts.containsKey(match.term()))
+                    .min(Comparator.comparingInt(BkTree.Match::distance)
+                            .thenComparing(match -> -counts.getOrDefault(match.term(), 0))
+                            .thenComparing(BkTree.Match::term))
+                    .map(match -> spellings.get(match.term()))
+                    .orElse(null);
+        }
+    }
+}
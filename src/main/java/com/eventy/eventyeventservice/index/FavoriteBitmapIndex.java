@@ -0,0 +1,274 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.dto.FavoriteIndexStatsResponse;
+import com.eventy.eventyeventservice.repository.FavoritePair;
+import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Every favorite of the database, held in memory as one compressed bitmap of favoriters per event.
+ * <p>
+ * Users are mapped to dense ints in order of appearance, so that the bitmaps of an event stay small
+ * (a few bytes per favorite, much less for runs of users). The index answers favorite counts
+ * (cardinality of a bitmap) and "is favorited" checks (bit test) without touching the database.
+ * <p>
+ * It is loaded with the catalog indexes, then maintained by the committed {@link FavoriteChange}s;
+ * changes committed while a load is running are replayed once the new generation is swapped in.
+ * Deleted events lose their bitmap. Until the first load completes, callers fall back to the database.
+ */
+@Slf4j
+@Component
+public class FavoriteBitmapIndex implements EventIndex {
+
+    private final FavoriteRepository favoriteRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${eventy.favorites.bitmap-index.enabled:true}")
+    private boolean enabled = true;
+
+    private volatile Generation generation;
+
+    private final Object loadLock = new Object();
+    private List<FavoriteChange> changesDuringLoad;
+
+    public FavoriteBitmapIndex(FavoriteRepository favoriteRepository, PlatformTransactionManager transactionManager) {
+        this.favoriteRepository = favoriteRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * True once the favorites have been loaded
+     */
+    public boolean isReady() {
+        return enabled && generation != null;
+    }
+
+    /**
+     * Reload every favorite from the database (the catalog itself is not needed).
+     * The periodic rebuild also compacts the user dictionary and picks up writes of other instances.
+     */
+    @Override
+    public void rebuild(List<EventSnapshot> events) {
+        synchronized (loadLock) {
+            if (changesDuringLoad != null) {
+                return; // Un chargement est déjà en cours
+            }
+            changesDuringLoad = new ArrayList<>();
+        }
+        Generation fresh = new Generation();
+        try {
+            long start = System.nanoTime();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<FavoritePair> pairs = favoriteRepository.streamAllPairs()) {
+                    pairs.forEach(pair -> fresh.add(pair.userId(), pair.eventId()));
+                }
+            });
+            fresh.optimize();
+            log.info("Loaded {} favorites of {} users on {} events in {} ms ({} bytes of bitmaps)",
+                    fresh.favoriteCount(), fresh.userIndexes.size(), fresh.favoriters.size(),
+                    (System.nanoTime() - start) / 1_000_000, fresh.sizeInBytes());
+        } finally {
+            synchronized (loadLock) {
+                // En cas d'échec, la génération précédente reste en place (avec les changements déjà appliqués)
+                if (fresh.loaded) {
+                    changesDuringLoad.forEach(fresh::apply);
+                    generation = fresh;
+                }
+                changesDuringLoad = null;
+            }
+        }
+    }
+
+    /**
+     * Deleting an event cascades to its favorites: drop its bitmap
+     */
+    @Override
+    public void apply(EventChange change) {
+        Generation current = generation;
+        if (change.type() == EventChange.Type.DELETED && current != null) {
+            current.removeEvent(change.eventId());
+        }
+    }
+
+    /**
+     * Applied after commit only, so that rolled back writes never reach the index
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+            Generation current = generation;
+            if (current != null) {
+                current.apply(change);
+            }
+        }
+    }
+
+    /**
+     * Number of users who favorited the event, or null while the index is not loaded
+     */
+    public Long count(UUID eventId) {
+        Generation current = generation;
+        if (!enabled || current == null) {
+            return null;
+        }
+        return current.count(eventId);
+    }
+
+    /**
+     * Among the given events, those favorited by the user, or null while the index is not loaded
+     */
+    public Set<UUID> favoritedAmong(UUID userId, Collection<UUID> eventIds) {
+        Generation current = generation;
+        if (!enabled || current == null) {
+            return null;
+        }
+        return current.favoritedAmong(userId, eventIds);
+    }
+
+    public FavoriteIndexStatsResponse stats() {
+        Generation current = generation;
+        if (current == null) {
+            return FavoriteIndexStatsResponse.builder().enabled(enabled).build();
+        }
+        return current.stats(enabled);
+    }
+
+    /**
+     * One load of the index. Bitmaps are not thread-safe: reads share the read lock, changes take the write lock.
+     */
+    private static final class Generation {
+        private final Map<UUID, Integer> userIndexes = new HashMap<>();
+        private final Map<UUID, RoaringBitmap> favoriters = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private boolean loaded;
+
+        // Chargement initial : pas encore publiée, aucun verrou nécessaire
+        private void add(UUID userId, UUID eventId) {
+            favoriters.computeIfAbsent(eventId, id -> new RoaringBitmap()).add(userIndex(userId));
+        }
+
+        private void optimize() {
+            favoriters.values().forEach(RoaringBitmap::runOptimize);
+            loaded = true;
+        }
+
+        private int userIndex(UUID userId) {
+            return userIndexes.computeIfAbsent(userId, id -> userIndexes.size());
+        }
+
+        private void apply(FavoriteChange change) {
+            lock.writeLock().lock();
+            try {
+                if (change.type() == FavoriteChange.Type.ADDED) {
+                    add(change.userId(), change.eventId());
+                } else {
+                    Integer user = userIndexes.get(change.userId());
+                    RoaringBitmap bitmap = favoriters.get(change.eventId());
+                    if (user != null && bitmap != null) {
+                        bitmap.remove(user);
+                        if (bitmap.isEmpty()) {
+                            favoriters.remove(change.eventId());
+                        }
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeEvent(UUID eventId) {
+            lock.writeLock().lock();
+            try {
+                favoriters.remove(eventId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private long count(UUID eventId) {
+            lock.readLock().lock();
+            try {
+                RoaringBitmap bitmap = favoriters.get(eventId);
+                return bitmap != null ? bitmap.getLongCardinality() : 0;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Set<UUID> favoritedAmong(UUID userId, Collection<UUID> eventIds) {
+            lock.readLock().lock();
+            try {
+                Integer user = userIndexes.get(userId);
+                Set<UUID> result = new HashSet<>();
+                if (user == null) {
+                    return result;
+                }
+                for (UUID eventId : eventIds) {
+                    RoaringBitmap bitmap = favoriters.get(eventId);
+                    if (bitmap != null && bitmap.contains(user)) {
+                        result.add(eventId);
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private long favoriteCount() {
+            return favoriters.values().stream().mapToLong(RoaringBitmap::getLongCardinality).sum();
+        }
+
+        private long sizeInBytes() {
+            return favoriters.values().stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+        }
+
+        private FavoriteIndexStatsResponse stats(boolean enabled) {
+            lock.readLock().lock();
+            try {
+                return FavoriteIndexStatsResponse.builder()
+                        .enabled(enabled)
+                        .loaded(true)
+                        .users(userIndexes.size())
+                        .events(favoriters.size())
+                        .favorites(favoriteCount())
+                        .bitmapBytes(sizeInBytes())
+                        .build();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
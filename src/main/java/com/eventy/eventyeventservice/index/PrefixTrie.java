@@ -0,0 +1,138 @@
+package com.eventy.eventyeventservice.index;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Character trie mapping string keys to ranked values, answering "best values under this prefix".
+ * <p>
+ * Every node lazily caches the top {@code cacheSize} distinct values of its subtree, so a lookup is a walk
+ * down the prefix plus a cached list read. A mutation only invalidates the caches on the path of its key.
+ * Readers share a read lock, mutations take the write lock.
+ *
+ * @param <T> value type, must implement equals/hashCode and keep a stable rank while stored
+ */
+public class PrefixTrie<T> {
+
+    private final Comparator<? super T> ranking;
+    private final int cacheSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node<T> root = new Node<>();
+
+    /**
+     * @param ranking   best values first
+     * @param cacheSize maximum number of values a lookup can return
+     */
+    public PrefixTrie(Comparator<? super T> ranking, int cacheSize) {
+        this.ranking = ranking;
+        this.cacheSize = cacheSize;
+    }
+
+    public void put(String key, T value) {
+        lock.writeLock().lock();
+        try {
+            Node<T> node = root;
+            node.top = null;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node<>());
+                node.top = null;
+            }
+            if (node.values == null) {
+                node.values = new LinkedHashSet<>(2);
+            }
+            node.values.add(value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false when the value was not stored under this key
+     */
+    public boolean remove(String key, T value) {
+        lock.writeLock().lock();
+        try {
+            Deque<Node<T>> path = new ArrayDeque<>(key.length() + 1);
+            Node<T> node = root;
+            path.push(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.get(key.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+                path.push(node);
+            }
+            if (node.values == null || !node.values.remove(value)) {
+                return false;
+            }
+            // Remonte le chemin : invalide les caches et supprime les nœuds devenus vides
+            for (int i = key.length(); i >= 0; i--) {
+                Node<T> current = path.pop();
+                current.top = null;
+                if (i > 0 && current.isEmpty()) {
+                    path.peek().children.remove(key.charAt(i - 1));
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best values stored under keys starting with the prefix, at most {@code min(limit, cacheSize)}
+     */
+    public List<T> top(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node<T> node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<T> top = top(node);
+            return top.size() <= limit ? top : top.subList(0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Le top-K d'un sous-arbre est contenu dans l'union des top-K de ses enfants
+    private List<T> top(Node<T> node) {
+        List<T> cached = node.top;
+        if (cached != null) {
+            return cached;
+        }
+        Set<T> candidates = new LinkedHashSet<>();
+        if (node.values != null) {
+            candidates.addAll(node.values);
+        }
+        for (Node<T> child : node.children.values()) {
+            candidates.addAll(top(child));
+        }
+        List<T> result = candidates.stream().sorted(ranking).limit(cacheSize).toList();
+        node.top = result;
+        return result;
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>(4);
+        private Set<T> values;
+        // Écrit sous verrou de lecture par plusieurs lecteurs au plus : calcul idempotent
+        private volatile List<T> top;
+
+        private boolean isEmpty() {
+            return children.isEmpty() && (values == null || values.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.eventy.eventyeventservice.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Accent folding and tokenization shared by the in-memory indexes ("Noël" -> "noel")
+ */
+public final class TextNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Lower-case the text and strip its accents. Returns an empty string for null.
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Split the lower-cased text into words, keeping accents and repetitions
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        for (String word : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Split the folded text into distinct tokens, in order of appearance
+     */
+    public static List<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+}
@@ -0,0 +1,128 @@
+package com.eventy.eventyeventservice.limit;
+
+import com.eventy.eventyeventservice.dto.ConcurrencyLimitStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive limit on the number of requests processed at once (gradient algorithm).
+ * <p>
+ * Two averages of the request latency are kept: a long one (the latency of a healthy service) and a short one
+ * (the latency right now). When requests start queuing, on the connection pool for instance, the short one
+ * grows and the limit is multiplied by {@code tolerance * long / short} (at most halved); otherwise it grows by
+ * about √limit. Requests beyond the limit are rejected at once instead of queuing, so latency stays bounded
+ * for the accepted ones. The limit only grows while at least half of it is used.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    // Fenêtres des moyennes mobiles exponentielles, en nombre de requêtes
+    private static final double LONG_WINDOW = 600;
+    private static final double SHORT_WINDOW = 10;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    @Value("${eventy.concurrency-limit.enabled:true}")
+    private boolean enabled = true;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double limit;
+
+    // Sous le verrou de l'instance
+    private double longRtt;
+    private double shortRtt;
+
+    public AdaptiveConcurrencyLimiter(@Value("${eventy.concurrency-limit.initial:20}") int initialLimit,
+                                      @Value("${eventy.concurrency-limit.min:4}") int minLimit,
+                                      @Value("${eventy.concurrency-limit.max:200}") int maxLimit,
+                                      @Value("${eventy.concurrency-limit.tolerance:1.5}") double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit || tolerance < 1) {
+            throw new IllegalArgumentException("Invalid eventy.concurrency-limit settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Take a slot for a request
+     *
+     * @return false when the limit is reached: the request must be rejected without being processed
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        accepted.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Release the slot of a processed request and adjust the limit with its latency
+     */
+    public void release(long latencyNanos) {
+        int used = inFlight.getAndDecrement();
+        update(Math.max(latencyNanos, 1), used);
+    }
+
+    private synchronized void update(double rtt, int used) {
+        if (longRtt == 0) {
+            longRtt = rtt;
+            shortRtt = rtt;
+        } else {
+            longRtt += (rtt - longRtt) / LONG_WINDOW;
+            shortRtt += (rtt - shortRtt) / SHORT_WINDOW;
+        }
+        // Après une surcharge prolongée, la référence longue redescend vers la latence actuelle
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        // Limite non atteinte : la latence observée ne dit rien d'une limite plus haute
+        double queueSize = used < current / 2 ? 0 : Math.sqrt(current);
+        double target = current * gradient + queueSize;
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public ConcurrencyLimitStatsResponse stats() {
+        double longMs;
+        double shortMs;
+        synchronized (this) {
+            longMs = longRtt / 1_000_000;
+            shortMs = shortRtt / 1_000_000;
+        }
+        return ConcurrencyLimitStatsResponse.builder()
+                .enabled(enabled)
+                .limit(limit())
+                .inFlight(inFlight.get())
+                .acceptedCount(accepted.get())
+                .rejectedCount(rejected.get())
+                .longLatencyMs(Math.round(longMs * 100) / 100.0)
+                .shortLatencyMs(Math.round(shortMs * 100) / 100.0)
+                .build();
+    }
+}
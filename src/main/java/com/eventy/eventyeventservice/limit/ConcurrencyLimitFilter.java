@@ -0,0 +1,58 @@
+package com.eventy.eventyeventservice.limit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Rejects with 503 and Retry-After the requests beyond the {@link AdaptiveConcurrencyLimiter} limit,
+ * before any database work. Long-lived responses (push stream, export) are not counted.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> EXCLUDED_PATHS = Set.of("/events/stream", "/events/export");
+
+    private static final String REJECTED_BODY =
+            "{\"error\":\"Service Unavailable\",\"message\":\"Too many concurrent requests, please retry later\"}";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return EXCLUDED_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(REJECTED_BODY);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+}
@@ -45,11 +45,22 @@ public class Event {
     @Column(name = "full_address", columnDefinition = "varchar(255)")
     private String fullAddress;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Column(name = "latitude", columnDefinition = "double precision")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Column(name = "longitude", columnDefinition = "double precision")
+    private Double longitude;
+
+    // Libellés résolus via ReferenceDataCache : pas de jointure ni de select supplémentaire
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_type_id", columnDefinition = "uuid")
     private EventType eventType;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", columnDefinition = "uuid")
     private EventCategory category;
 
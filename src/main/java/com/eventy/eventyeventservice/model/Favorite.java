@@ -23,7 +23,8 @@ public class Favorite {
     @Column(name = "user_id", nullable = false, columnDefinition = "uuid")
     private UUID userId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // LAZY : les lectures passent par des projections ou un fetch join explicite
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
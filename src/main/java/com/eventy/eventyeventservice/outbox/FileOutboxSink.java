@@ -0,0 +1,42 @@
+package com.eventy.eventyeventservice.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sink for local runs: appends the messages to a file, one JSON object per line (NDJSON)
+ */
+@Component
+@ConditionalOnProperty(name = "eventy.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(@Value("${eventy.outbox.file.path:outbox.ndjson}") Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized int deliver(List<OutboxMessage> batch) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxMessage message : batch) {
+                writer.write(objectMapper.writeValueAsString(message));
+                writer.write('\n');
+            }
+        }
+        return batch.size();
+    }
+}
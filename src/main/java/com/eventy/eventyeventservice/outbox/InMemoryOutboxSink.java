@@ -0,0 +1,43 @@
+package com.eventy.eventyeventservice.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Sink for tests and local runs: keeps the last delivered messages in memory
+ */
+@Component
+@ConditionalOnProperty(name = "eventy.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(@Value("${eventy.outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized int deliver(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+        return batch.size();
+    }
+
+    /**
+     * Delivered messages still retained, oldest first
+     */
+    public synchronized List<OutboxMessage> messages() {
+        return new ArrayList<>(messages);
+    }
+}
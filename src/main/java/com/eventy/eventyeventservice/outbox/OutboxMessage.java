@@ -0,0 +1,16 @@
+package com.eventy.eventyeventservice.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One change notification read from the outbox table
+ *
+ * @param aggregateType "event" or "favorite"
+ * @param aggregateId   ID of the event concerned
+ * @param changeType    type of the {@code EventChange} or {@code FavoriteChange}
+ * @param payload       the change as JSON
+ */
+public record OutboxMessage(long id, String aggregateType, UUID aggregateId, String changeType, String payload,
+                            LocalDateTime createdAt) {
+}
@@ -0,0 +1,191 @@
+package com.eventy.eventyeventservice.outbox;
+
+import com.eventy.eventyeventservice.dto.OutboxStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the outbox messages to the {@link OutboxSink}, in batches and in ID order.
+ * <p>
+ * Each batch is read, delivered and marked in one transaction holding a PostgreSQL advisory lock, so that a
+ * single relay runs across all instances and the order is kept. A crash between the delivery and the commit
+ * delivers the batch again (at-least-once). When the sink accepts only part of a batch, the rest waits for the
+ * next run; when it fails, the relay backs off exponentially. Delivered messages are deleted after a retention.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // Clé arbitraire, propre à ce service
+    private static final long LOCK_KEY = 0x6576656e74794fL;
+
+    private static final String SELECT_SQL = "SELECT id, aggregate_type, aggregate_id, change_type, payload, created_at " +
+            "FROM outbox_message WHERE delivered_at IS NULL ORDER BY id LIMIT ?";
+
+    private static final String MARK_SQL = "UPDATE outbox_message SET delivered_at = now() WHERE id = ?";
+
+    private static final String CLEANUP_SQL = "DELETE FROM outbox_message WHERE id IN " +
+            "(SELECT id FROM outbox_message WHERE delivered_at < now() - make_interval(secs => ?) LIMIT ?)";
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getObject("aggregate_id", UUID.class),
+            rs.getString("change_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink sink;
+
+    @Value("${eventy.outbox.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${eventy.outbox.relay.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${eventy.outbox.relay.max-batches:20}")
+    private int maxBatches = 20;
+
+    @Value("${eventy.outbox.relay.initial-backoff:PT1S}")
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    @Value("${eventy.outbox.relay.max-backoff:PT5M}")
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    @Value("${eventy.outbox.retention:P1D}")
+    private Duration retention = Duration.ofDays(1);
+
+    @Value("${eventy.outbox.cleanup-chunk:5000}")
+    private int cleanupChunk = 5000;
+
+    Clock clock = Clock.systemUTC();
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong partialBatches = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong cleaned = new AtomicLong();
+    private volatile int consecutiveFailures;
+    private volatile Instant nextAttemptAt = Instant.MIN;
+    private volatile String lastError;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, OutboxSink sink) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+    }
+
+    /**
+     * Deliver the pending messages, up to {@code max-batches} full batches per run.
+     * Synchronized so that the scheduler never runs two relays of the same instance at once.
+     */
+    @Scheduled(fixedDelayString = "${eventy.outbox.relay.interval:PT1S}")
+    public synchronized void relay() {
+        if (!enabled || clock.instant().isBefore(nextAttemptAt)) {
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                Integer accepted = transactionTemplate.execute(status -> relayBatch());
+                // Lot incomplet, refusé en partie ou verrou tenu par une autre instance : on attend le prochain passage
+                if (accepted == null || accepted < batchSize) {
+                    break;
+                }
+            }
+            consecutiveFailures = 0;
+            lastError = null;
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            int attempt = ++consecutiveFailures;
+            Duration backoff = backoff(attempt);
+            nextAttemptAt = clock.instant().plus(backoff);
+            lastError = e.getMessage();
+            log.warn("Outbox relay failed ({} consecutive failure(s)), next attempt in {}", attempt, backoff, e);
+        }
+    }
+
+    // Dans la transaction : -1 si une autre instance relaie déjà
+    private int relayBatch() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return -1;
+        }
+        List<OutboxMessage> batch = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int accepted;
+        try {
+            accepted = Math.min(Math.max(sink.deliver(batch), 0), batch.size());
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox sink rejected a batch of " + batch.size() + " message(s)", e);
+        }
+        if (accepted > 0) {
+            jdbcTemplate.batchUpdate(MARK_SQL, batch.subList(0, accepted).stream()
+                    .map(message -> new Object[]{message.id()})
+                    .toList());
+        }
+        batches.incrementAndGet();
+        delivered.addAndGet(accepted);
+        if (accepted < batch.size()) {
+            // Contre-pression : le reste du lot n'est pas proposé à nouveau dans ce passage
+            partialBatches.incrementAndGet();
+        }
+        return accepted;
+    }
+
+    private Duration backoff(int attempt) {
+        // Doublé à chaque échec, plafonné (décalage borné pour éviter le débordement)
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * Delete the messages delivered before the retention, in chunks to keep the transactions short
+     */
+    @Scheduled(fixedDelayString = "${eventy.outbox.cleanup-interval:PT1H}")
+    public void cleanup() {
+        if (!enabled) {
+            return;
+        }
+        // Comparé à l'horloge de la base, qui a daté la livraison
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(CLEANUP_SQL, retention.toSeconds(), cleanupChunk);
+            cleaned.addAndGet(deleted);
+        } while (deleted == cleanupChunk);
+    }
+
+    public OutboxStatsResponse stats() {
+        Long pending = enabled
+                ? jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_message WHERE delivered_at IS NULL", Long.class)
+                : null;
+        return OutboxStatsResponse.builder()
+                .enabled(enabled)
+                .sink(sink.getClass().getSimpleName())
+                .pendingCount(pending != null ? pending : 0)
+                .deliveredCount(delivered.get())
+                .batchCount(batches.get())
+                .partialBatchCount(partialBatches.get())
+                .failureCount(failures.get())
+                .consecutiveFailures(consecutiveFailures)
+                .nextAttemptAt(consecutiveFailures > 0 ? nextAttemptAt : null)
+                .lastError(lastError)
+                .cleanedCount(cleaned.get())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.eventy.eventyeventservice.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the outbox relay (message broker, webhook, file...).
+ * <p>
+ * Delivery is at-least-once: a batch may be delivered again if the relay fails before recording it,
+ * so consumers must deduplicate on {@link OutboxMessage#id()}.
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver a batch, in order
+     *
+     * @return number of messages accepted, from the start of the batch. Accepting fewer than the whole batch
+     * tells the relay to slow down: the rest is offered again on the next run.
+     * @throws Exception when nothing could be delivered (the batch is retried with backoff)
+     */
+    int deliver(List<OutboxMessage> batch) throws Exception;
+}
@@ -0,0 +1,59 @@
+package com.eventy.eventyeventservice.outbox;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Records every catalog and favorite change in the outbox table, before the commit of the transaction
+ * that made it: the change is relayed if and only if the mutation is committed.
+ * A failure to record it rolls the mutation back.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    static final String EVENT_AGGREGATE = "event";
+    static final String FAVORITE_AGGREGATE = "favorite";
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_message (aggregate_type, aggregate_id, change_type, payload) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${eventy.outbox.enabled:true}")
+    private boolean enabled = true;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        write(EVENT_AGGREGATE, change.eventId(), change.type().name(), change);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        write(FAVORITE_AGGREGATE, change.eventId(), change.type().name(), change);
+    }
+
+    private void write(String aggregateType, UUID aggregateId, String changeType, Object change) {
+        if (!enabled) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + changeType + " change of " + aggregateId, e);
+        }
+        jdbcTemplate.update(INSERT_SQL, aggregateType, aggregateId, changeType, payload);
+    }
+}
@@ -0,0 +1,14 @@
+package com.eventy.eventyeventservice.repository;
+
+import java.util.UUID;
+
+/**
+ * One entry of the catalog change log: an event written or deleted, with its change sequence number
+ */
+public interface EventChangeRow {
+    UUID getEventId();
+
+    Long getChangeSeq();
+
+    Boolean getDeleted();
+}
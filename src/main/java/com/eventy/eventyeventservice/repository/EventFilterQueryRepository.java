@@ -0,0 +1,32 @@
+package com.eventy.eventyeventservice.repository;
+
+import com.eventy.eventyeventservice.model.Event;
+
+import java.util.List;
+
+/**
+ * Native PostgreSQL queries whose WHERE clause only holds the filters supplied, so that the planner sees one
+ * plain statement per filter combination instead of {@code :param IS NULL OR ...} branches.
+ * Every filter is optional: null or blank means no filter.
+ */
+public interface EventFilterQueryRepository {
+
+    /**
+     * Full-text search of the active events on the indexed search_vector column (GIN), ranked by ts_rank
+     *
+     * @param keyword    web search syntax, required
+     * @param categoryId category UUID as text
+     */
+    List<Event> fullTextSearch(String keyword, String location, String categoryId, int limit);
+
+    /**
+     * Facet counts of the events matching the filters, all dimensions computed in one grouped scan.
+     * The keyword is matched as a substring of the name or the description.
+     */
+    List<FacetCountRow> facetCounts(String keyword, String location, String categoryId, String status);
+
+    /**
+     * Same as {@link #facetCounts} with the keyword, required, matched on the full-text search_vector column
+     */
+    List<FacetCountRow> fullTextFacetCounts(String keyword, String location, String categoryId, String status);
+}
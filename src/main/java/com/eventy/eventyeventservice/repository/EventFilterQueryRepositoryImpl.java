@@ -0,0 +1,143 @@
+package com.eventy.eventyeventservice.repository;
+
+import com.eventy.eventyeventservice.model.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL implementation of {@link EventFilterQueryRepository}: the statement is assembled from the filters
+ * supplied, every value is bound as a parameter.
+ */
+public class EventFilterQueryRepositoryImpl implements EventFilterQueryRepository {
+
+    private static final String FULL_TEXT_QUERY =
+            "(SELECT websearch_to_tsquery('french', eventy_unaccent(:keyword)) || " +
+            "websearch_to_tsquery('simple', eventy_unaccent(:keyword)) AS q) query";
+
+    private static final String FACET_SELECT = "SELECT CASE WHEN GROUPING(e.category_id) = 0 THEN 'category' " +
+            "WHEN GROUPING(e.event_type_id) = 0 THEN 'type' " +
+            "WHEN GROUPING(lower(eventy_unaccent(e.location))) = 0 THEN 'location' " +
+            "WHEN GROUPING(e.status) = 0 THEN 'status' ELSE 'total' END AS dimension, " +
+            "COALESCE(CAST(e.category_id AS text), CAST(e.event_type_id AS text), " +
+            "lower(eventy_unaccent(e.location)), e.status) AS value, " +
+            "MIN(e.location) AS label, COUNT(*) AS count " +
+            "FROM event e";
+
+    private static final String FACET_GROUPING = " GROUP BY GROUPING SETS ((e.category_id), (e.event_type_id), " +
+            "(lower(eventy_unaccent(e.location))), (e.status), ())";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Event> fullTextSearch(String keyword, String location, String categoryId, int limit) {
+        Where where = new Where()
+                .add("e.search_vector @@ query.q", "keyword", keyword)
+                .addIfPresent("e.location ILIKE CONCAT('%', :location, '%')", "location", location)
+                .addIfPresent("e.category_id = CAST(:categoryId AS uuid)", "categoryId", categoryId)
+                .add("e.status = 'active'");
+        String sql = "SELECT e.* FROM event e, " + FULL_TEXT_QUERY + where.sql() +
+                " ORDER BY ts_rank(e.search_vector, query.q) DESC, e.start_date, e.event_id LIMIT :limit";
+
+        @SuppressWarnings("unchecked")
+        List<Event> events = where.bind(entityManager.createNativeQuery(sql, Event.class))
+                .setParameter("limit", limit)
+                .getResultList();
+        return events;
+    }
+
+    @Override
+    public List<FacetCountRow> facetCounts(String keyword, String location, String categoryId, String status) {
+        Where where = new Where()
+                .addIfPresent("(e.name ILIKE CONCAT('%', :keyword, '%') " +
+                        "OR e.description ILIKE CONCAT('%', :keyword, '%'))", "keyword", keyword);
+        return facetCounts(FACET_SELECT, where, location, categoryId, status);
+    }
+
+    @Override
+    public List<FacetCountRow> fullTextFacetCounts(String keyword, String location, String categoryId,
+                                                   String status) {
+        Where where = new Where().add("e.search_vector @@ query.q", "keyword", keyword);
+        return facetCounts(FACET_SELECT + ", " + FULL_TEXT_QUERY, where, location, categoryId, status);
+    }
+
+    private List<FacetCountRow> facetCounts(String select, Where where, String location, String categoryId,
+                                            String status) {
+        where.addIfPresent("e.location ILIKE CONCAT('%', :location, '%')", "location", location)
+                .addIfPresent("e.category_id = CAST(:categoryId AS uuid)", "categoryId", categoryId)
+                .addIfPresent("e.status = :status", "status", status);
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = where.bind(entityManager.createNativeQuery(select + where.sql() + FACET_GROUPING,
+                        Tuple.class))
+                .getResultList();
+        return rows.stream()
+                .<FacetCountRow>map(row -> new FacetRow(row.get("dimension", String.class),
+                        row.get("value", String.class), row.get("label", String.class),
+                        ((Number) row.get("count")).longValue()))
+                .toList();
+    }
+
+    /**
+     * Predicates joined with AND, and the values to bind
+     */
+    private static final class Where {
+        private final List<String> predicates = new ArrayList<>();
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+        private Where add(String predicate) {
+            predicates.add(predicate);
+            return this;
+        }
+
+        private Where add(String predicate, String name, Object value) {
+            predicates.add(predicate);
+            parameters.put(name, value);
+            return this;
+        }
+
+        // Filtre absent : ni prédicat ni paramètre
+        private Where addIfPresent(String predicate, String name, String value) {
+            return value == null || value.isBlank() ? this : add(predicate, name, value);
+        }
+
+        private String sql() {
+            return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+        }
+
+        private Query bind(Query query) {
+            parameters.forEach(query::setParameter);
+            return query;
+        }
+    }
+
+    private record FacetRow(String dimension, String value, String label, Long count) implements FacetCountRow {
+
+        @Override
+        public String getDimension() {
+            return dimension;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public String getLabel() {
+            return label;
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
+}
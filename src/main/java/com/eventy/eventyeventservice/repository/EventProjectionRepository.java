@@ -0,0 +1,22 @@
+package com.eventy.eventyeventservice.repository;
+
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.model.Event;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Read queries that build {@link EventResponse} directly in the select clause: only the needed columns
+ * are fetched, type and category labels are joined in the same statement and no entity is managed.
+ */
+public interface EventProjectionRepository {
+
+    /**
+     * @param spec  filter (null for the whole catalog)
+     * @param sort  order of the rows
+     * @param limit maximum number of rows, 0 or less for no limit
+     */
+    List<EventResponse> findResponses(Specification<Event> spec, Sort sort, int limit);
+}
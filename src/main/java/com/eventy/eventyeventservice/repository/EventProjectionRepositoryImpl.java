@@ -0,0 +1,58 @@
+package com.eventy.eventyeventservice.repository;
+
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.model.Event;
+import com.eventy.eventyeventservice.model.EventCategory;
+import com.eventy.eventyeventservice.model.EventType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link EventProjectionRepository}, mirroring the select clause of
+ * {@link EventRepository#RESPONSE_SELECT} so that the specifications can be reused as they are.
+ */
+public class EventProjectionRepositoryImpl implements EventProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventResponse> findResponses(Specification<Event> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventResponse> query = cb.createQuery(EventResponse.class);
+        Root<Event> root = query.from(Event.class);
+        Join<Event, EventType> type = root.join("eventType", JoinType.LEFT);
+        Join<Event, EventCategory> category = root.join("category", JoinType.LEFT);
+
+        query.select(cb.construct(EventResponse.class,
+                root.get("eventId"), root.get("name"), root.get("description"),
+                root.get("startDate"), root.get("endDate"), root.get("location"), root.get("fullAddress"),
+                root.get("latitude"), root.get("longitude"), root.get("imageUrl"), root.get("status"),
+                type.get("label"), category.get("label"), root.get("creatorId")));
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        TypedQuery<EventResponse> typed = entityManager.createQuery(query);
+        if (limit > 0) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+}
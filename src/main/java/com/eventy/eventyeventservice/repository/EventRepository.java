@@ -1,23 +1,52 @@
 package com.eventy.eventyeventservice.repository;
 
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.dto.EventResponse;
 import com.eventy.eventyeventservice.model.Event;
 import com.eventy.eventyeventservice.model.EventStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for event management
  */
 @Repository
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event>,
+        EventProjectionRepository, EventFilterQueryRepository {
+
+    /**
+     * Constructor expression shared by the projection queries (see {@link EventProjectionRepositoryImpl})
+     */
+    String RESPONSE_SELECT = "SELECT new com.eventy.eventyeventservice.dto.EventResponse(" +
+           "e.eventId, e.name, e.description, e.startDate, e.endDate, e.location, e.fullAddress, " +
+           "e.latitude, e.longitude, e.imageUrl, e.status, t.label, c.label, e.creatorId) " +
+           "FROM Event e LEFT JOIN e.eventType t LEFT JOIN e.category c ";
+
+    /**
+     * Single event read as a response DTO, labels joined in the same statement
+     */
+    @Query(RESPONSE_SELECT + "WHERE e.eventId = :id")
+    Optional<EventResponse> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Response DTOs of the given events, in no particular order (unknown IDs are skipped)
+     */
+    @Query(RESPONSE_SELECT + "WHERE e.eventId IN :ids")
+    List<EventResponse> findResponsesByIds(@Param("ids") Collection<UUID> ids);
 
     /**
     *Recherche par mot clé dans le nom ou la description (insensible à la casse)
@@ -30,11 +59,6 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
      */
     List<Event> findByLocationContainingIgnoreCase(String location);
 
-    /**
-     Filtre par date (événements à venir)
-     */
-    List<Event> findByStartDateAfter(LocalDateTime date);
-
     /**
      Filtre par type d'événement
      */
@@ -55,16 +79,65 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
      */
     List<Event> findByStartDateAfter(LocalDate date);
 
-    @Query("SELECT e FROM Event e WHERE " +
-           "(:keyword IS NULL OR LOWER(CAST(e.name AS string)) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%')) OR LOWER(CAST(e.description AS string)) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%'))) AND " +
-           "(:location IS NULL OR LOWER(CAST(e.location AS string)) LIKE LOWER(CONCAT('%', CAST(:location AS string), '%'))) AND " +
-           "(:categoryId IS NULL OR e.category.categoryId = :categoryId) AND " +
-           "e.status = 'active'")
-    List<Event> searchEvents(
-        @Param("keyword") String keyword, 
-        @Param("location") String location, 
-        @Param("categoryId") UUID categoryId
-    );
+    /**
+     * Full-text equivalent of searchByKeyword (all statuses), ranked by ts_rank
+     */
+    @Query(value = "SELECT e.* FROM event e, " +
+           "(SELECT websearch_to_tsquery('french', eventy_unaccent(:keyword)) || " +
+           "websearch_to_tsquery('simple', eventy_unaccent(:keyword)) AS q) query " +
+           "WHERE e.search_vector @@ query.q " +
+           "ORDER BY ts_rank(e.search_vector, query.q) DESC, e.start_date, e.event_id " +
+           "LIMIT :limit", nativeQuery = true)
+    List<Event> fullTextSearchByKeyword(@Param("keyword") String keyword, @Param("limit") int limit);
+
+    /**
+     * Events written and deleted after the given change sequence number, oldest change first.
+     * The sequence is maintained by triggers (see V8__event_change_sequence.sql).
+     */
+    @Query(value = "SELECT e.event_id AS \"eventId\", e.change_seq AS \"changeSeq\", false AS \"deleted\" " +
+           "FROM event e WHERE e.change_seq > :since " +
+           "UNION ALL " +
+           "SELECT t.event_id, t.change_seq, true FROM event_tombstone t WHERE t.change_seq > :since " +
+           "ORDER BY \"changeSeq\" " +
+           "LIMIT :limit", nativeQuery = true)
+    List<EventChangeRow> findChangesSince(@Param("since") long since, @Param("limit") int limit);
+
+    /**
+     * Highest change sequence number whose deletion may have been purged
+     */
+    @Query(value = "SELECT change_seq FROM event_change_horizon", nativeQuery = true)
+    long findChangeHorizon();
+
+    /**
+     * Move the horizon past the deletions older than the retention, then purge them
+     */
+    @Modifying
+    @Query(value = "WITH horizon AS (" +
+           "UPDATE event_change_horizon SET change_seq = GREATEST(change_seq, " +
+           "COALESCE((SELECT MAX(t.change_seq) FROM event_tombstone t " +
+           "WHERE t.deleted_at < now() - make_interval(secs => :retentionSeconds)), 0)) " +
+           "RETURNING change_seq) " +
+           "DELETE FROM event_tombstone WHERE change_seq <= (SELECT change_seq FROM horizon)", nativeQuery = true)
+    int purgeTombstones(@Param("retentionSeconds") long retentionSeconds);
+
+    /**
+     * Lightweight copy of the whole catalog used to load the in-memory indexes (no entity hydration)
+     */
+    @Query("SELECT new com.eventy.eventyeventservice.change.EventSnapshot(" +
+           "e.eventId, e.name, e.description, e.location, e.latitude, e.longitude, c.categoryId, t.eventTypeId, e.status, e.startDate, e.endDate) " +
+           "FROM Event e LEFT JOIN e.category c LEFT JOIN e.eventType t")
+    List<EventSnapshot> findAllSnapshots();
+
+    /**
+     * Whole catalog as a cursor-backed stream for exports (must be consumed inside a transaction and closed).
+     * Rows are fetched from the JDBC driver in batches instead of being loaded all at once.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e ORDER BY e.startDate, e.eventId")
+    Stream<Event> streamAllForExport();
 
 }
 
@@ -0,0 +1,127 @@
+package com.eventy.eventyeventservice.repository;
+
+import com.eventy.eventyeventservice.dto.EventCursor;
+import com.eventy.eventyeventservice.dto.EventSearchCriteria;
+import com.eventy.eventyeventservice.model.Event;
+import com.eventy.eventyeventservice.model.EventStatus;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reusable query predicates for events. Only the filters actually supplied end up in the SQL.
+ */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> hasStatus(EventStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Event> createdBy(UUID creatorId) {
+        return (root, query, cb) -> cb.equal(root.get("creatorId"), creatorId);
+    }
+
+    public static Specification<Event> startingAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThan(root.<LocalDate>get("startDate"), date);
+    }
+
+    /**
+     * Active events matching the optional keyword (name or description), location and category
+     */
+    public static Specification<Event> isAvailable(String keyword, String location, UUID categoryId) {
+        return matching(EventSearchCriteria.builder()
+                .keyword(keyword)
+                .location(location)
+                .categoryIds(categoryId != null ? Set.of(categoryId) : null)
+                .status(EventStatus.active)
+                .build());
+    }
+
+    /**
+     * Events matching the search criteria. Each filter supplied adds a plain predicate on its column, so the
+     * planner sees the actual filters (no {@code :param IS NULL OR ...}) and can use the matching index.
+     */
+    public static Specification<Event> matching(EventSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.status() != null) {
+                // Littéral plutôt que paramètre : un plan générique ne peut pas utiliser les index partiels
+                // WHERE status = 'active'
+                predicates.add(cb.equal(root.get("status"), cb.literal(criteria.status())));
+            }
+            if (criteria.keyword() != null && !criteria.keyword().isBlank()) {
+                String pattern = containsPattern(criteria.keyword());
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.<String>get("name")), pattern, '\\'),
+                        cb.like(cb.lower(root.<String>get("description")), pattern, '\\')));
+            }
+            if (criteria.location() != null && !criteria.location().isBlank()) {
+                String pattern = containsPattern(criteria.location());
+                predicates.add(cb.like(cb.lower(root.<String>get("location")), pattern, '\\'));
+            }
+            Set<UUID> categoryIds = criteria.categoryIds();
+            if (categoryIds != null && !categoryIds.isEmpty()) {
+                Path<UUID> categoryId = root.get("category").get("categoryId");
+                predicates.add(categoryIds.size() == 1
+                        ? cb.equal(categoryId, categoryIds.iterator().next())
+                        : categoryId.in(categoryIds));
+            }
+            if (criteria.eventTypeId() != null) {
+                predicates.add(cb.equal(root.get("eventType").get("eventTypeId"), criteria.eventTypeId()));
+            }
+            if (criteria.startFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDate>get("startDate"), criteria.startFrom()));
+            }
+            if (criteria.startTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<LocalDate>get("startDate"), criteria.startTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Keyset predicate: rows strictly after the cursor in (start_date, event_id) order.
+     * Written as {@code start_date >= d AND (start_date > d OR event_id > id)} so that the leading
+     * condition is an index range on (start_date, event_id).
+     */
+    public static Specification<Event> seek(EventCursor cursor, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            Path<LocalDate> startDate = root.get("startDate");
+            Path<UUID> eventId = root.get("eventId");
+            if (direction.isAscending()) {
+                return cb.and(
+                        cb.greaterThanOrEqualTo(startDate, cursor.startDate()),
+                        cb.or(cb.greaterThan(startDate, cursor.startDate()), cb.greaterThan(eventId, cursor.eventId())));
+            }
+            return cb.and(
+                    cb.lessThanOrEqualTo(startDate, cursor.startDate()),
+                    cb.or(cb.lessThan(startDate, cursor.startDate()), cb.lessThan(eventId, cursor.eventId())));
+        };
+    }
+
+    /**
+     * Index-backed sort matching {@link #seek}
+     */
+    public static Sort keysetSort(Sort.Direction direction) {
+        return Sort.by(direction, "startDate").and(Sort.by(direction, "eventId"));
+    }
+
+    private static String containsPattern(String value) {
+        String escaped = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,15 @@
+package com.eventy.eventyeventservice.repository;
+
+/**
+ * One row of a grouped facet query: the facet dimension ('category', 'type', 'location', 'status' or 'total'),
+ * the grouped value and its number of events
+ */
+public interface FacetCountRow {
+    String getDimension();
+
+    String getValue();
+
+    String getLabel();
+
+    Long getCount();
+}
@@ -0,0 +1,10 @@
+package com.eventy.eventyeventservice.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Number of favorites added to an event on a given day, to seed the trending scores
+ */
+public record FavoriteActivity(UUID eventId, LocalDate addedDate, long count) {
+}
@@ -0,0 +1,9 @@
+package com.eventy.eventyeventservice.repository;
+
+import java.util.UUID;
+
+/**
+ * One favorite reduced to its (user, event) pair, for the in-memory favorite index
+ */
+public record FavoritePair(UUID userId, UUID eventId) {
+}
@@ -1,21 +1,41 @@
 package com.eventy.eventyeventservice.repository;
 
+import com.eventy.eventyeventservice.dto.FavoriteResponse;
 import com.eventy.eventyeventservice.model.Favorite;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for favorite management
  */
 @Repository
 public interface FavoriteRepository extends JpaRepository<Favorite, UUID> {
+
+    /**
+     * Constructor expression shared by the compact favorite queries (one join on event, no label)
+     */
+    String RESPONSE_SELECT = "SELECT new com.eventy.eventyeventservice.dto.FavoriteResponse(" +
+           "f.favoriteId, e.eventId, e.name, e.startDate, e.status, f.addedDate) " +
+           "FROM Favorite f JOIN f.event e ";
+
     /**
-     * Find all favorites for a specific user
+     * Find all favorites for a specific user, their events fetched in the same statement
      */
+    @EntityGraph(attributePaths = "event")
     List<Favorite> findByUserId(UUID userId);
 
     /**
@@ -27,7 +47,54 @@ public interface FavoriteRepository extends JpaRepository<Favorite, UUID> {
      * Delete a favorite by user and event
      */
     void deleteByUserIdAndEvent_EventId(UUID userId, UUID eventId);
-}
 
+    @Query(RESPONSE_SELECT + "WHERE f.favoriteId = :favoriteId")
+    Optional<FavoriteResponse> findResponseById(@Param("favoriteId") UUID favoriteId);
+
+    /**
+     * First page of a user's favorites, most recent first
+     */
+    @Query(RESPONSE_SELECT + "WHERE f.userId = :userId ORDER BY f.addedDate DESC, f.favoriteId DESC")
+    List<FavoriteResponse> findPageByUserId(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * Next page of a user's favorites: rows strictly after the cursor in (added_date DESC, favorite_id DESC) order
+     */
+    @Query(RESPONSE_SELECT + "WHERE f.userId = :userId AND f.addedDate <= :addedDate " +
+           "AND (f.addedDate < :addedDate OR f.favoriteId < :favoriteId) " +
+           "ORDER BY f.addedDate DESC, f.favoriteId DESC")
+    List<FavoriteResponse> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                                 @Param("addedDate") LocalDate addedDate,
+                                                 @Param("favoriteId") UUID favoriteId,
+                                                 Limit limit);
+
+    /**
+     * Among the given events, those favorited by the user: one lookup on the UNIQUE(user_id, event_id) index
+     */
+    @Query("SELECT f.event.eventId FROM Favorite f WHERE f.userId = :userId AND f.event.eventId IN :eventIds")
+    List<UUID> findFavoritedEventIds(@Param("userId") UUID userId, @Param("eventIds") Collection<UUID> eventIds);
 
+    /**
+     * IDs of the events favorited by a user, most recent first (read from the favorite table only)
+     */
+    @Query("SELECT f.event.eventId FROM Favorite f WHERE f.userId = :userId ORDER BY f.addedDate DESC, f.favoriteId DESC")
+    List<UUID> findEventIdsByUserId(@Param("userId") UUID userId);
 
+    /**
+     * Every (user, event) pair as a cursor-backed stream, to load the in-memory favorite index
+     * (must be consumed inside a transaction and closed)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.eventy.eventyeventservice.repository.FavoritePair(f.userId, f.event.eventId) FROM Favorite f")
+    Stream<FavoritePair> streamAllPairs();
+
+    /**
+     * Favorites added per event and per day since the given date, to seed the trending scores after a restart
+     */
+    @Query("SELECT new com.eventy.eventyeventservice.repository.FavoriteActivity(f.event.eventId, f.addedDate, COUNT(f)) " +
+           "FROM Favorite f WHERE f.addedDate >= :since GROUP BY f.event.eventId, f.addedDate")
+    List<FavoriteActivity> countAddedSince(@Param("since") LocalDate since);
+}
@@ -0,0 +1,84 @@
+package com.eventy.eventyeventservice.service;
+
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes exported events one by one to an output stream, in NDJSON (one JSON object per line) or CSV.
+ * Nothing is accumulated in memory besides the write buffer.
+ */
+public class EventExportWriter implements Consumer<EventResponse> {
+
+    private static final String[] CSV_HEADER = {
+            "id", "name", "description", "startDate", "endDate", "location", "fullAddress", "latitude",
+            "longitude", "imageUrl", "status", "typeLabel", "categoryLabel", "creatorId", "favoriteCount"
+    };
+
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+
+    public EventExportWriter(ExportFormat format, OutputStream out, ObjectMapper objectMapper) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvRow((Object[]) CSV_HEADER);
+        }
+    }
+
+    @Override
+    public void accept(EventResponse event) {
+        try {
+            if (format == ExportFormat.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+            } else {
+                writeCsvRow(event.getId(), event.getName(), event.getDescription(), event.getStartDate(),
+                        event.getEndDate(), event.getLocation(), event.getFullAddress(), event.getLatitude(),
+                        event.getLongitude(), event.getImageUrl(), event.getStatus(), event.getTypeLabel(),
+                        event.getCategoryLabel(), event.getCreatorId(), event.getFavoriteCount());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvRow(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escapeCsv(values[i]));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // RFC 4180 : guillemets doublés, champ entre guillemets s'il contient un séparateur
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -1,24 +1,80 @@
 package com.eventy.eventyeventservice.service;
 
+import com.eventy.eventyeventservice.cache.ReferenceDataCache;
+import com.eventy.eventyeventservice.cache.SearchResultCache;
+import com.eventy.eventyeventservice.cache.SingleFlight;
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.dto.CalendarResponse;
+import com.eventy.eventyeventservice.dto.CursorPage;
+import com.eventy.eventyeventservice.dto.EventChangeToken;
+import com.eventy.eventyeventservice.dto.EventChangesResponse;
+import com.eventy.eventyeventservice.dto.EventCursor;
 import com.eventy.eventyeventservice.dto.EventRequest;
 import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.dto.EventSearchCriteria;
+import com.eventy.eventyeventservice.dto.FacetResponse;
+import com.eventy.eventyeventservice.dto.NearbyEventResponse;
+import com.eventy.eventyeventservice.dto.RecommendedEventResponse;
+import com.eventy.eventyeventservice.dto.SingleFlightStatsResponse;
+import com.eventy.eventyeventservice.dto.SuggestionResponse;
+import com.eventy.eventyeventservice.dto.TrendingEventResponse;
+import com.eventy.eventyeventservice.exception.ChangeTokenExpiredException;
+import com.eventy.eventyeventservice.exception.InvalidRequestException;
+import com.eventy.eventyeventservice.index.EventCalendarIndex;
+import com.eventy.eventyeventservice.index.EventFacetIndex;
+import com.eventy.eventyeventservice.index.EventGeoIndex;
+import com.eventy.eventyeventservice.index.EventSearchIndex;
+import com.eventy.eventyeventservice.index.EventSimilarityIndex;
+import com.eventy.eventyeventservice.index.EventSuggestIndex;
+import com.eventy.eventyeventservice.index.EventTrendingIndex;
+import com.eventy.eventyeventservice.index.EventVocabularyIndex;
+import com.eventy.eventyeventservice.index.FavoriteBitmapIndex;
 import com.eventy.eventyeventservice.model.Event;
 import com.eventy.eventyeventservice.model.EventStatus;
 import com.eventy.eventyeventservice.model.EventType;
 import com.eventy.eventyeventservice.model.EventCategory;
 import com.eventy.eventyeventservice.repository.EventCategoryRepository;
+import com.eventy.eventyeventservice.repository.EventChangeRow;
 import com.eventy.eventyeventservice.repository.EventRepository;
+import com.eventy.eventyeventservice.repository.EventSpecifications;
 import com.eventy.eventyeventservice.repository.EventTypeRepository;
+import com.eventy.eventyeventservice.repository.FacetCountRow;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,20 +83,96 @@ public class EventService {
     private final EventRepository eventRepository;
     private final EventTypeRepository eventTypeRepository;
     private final EventCategoryRepository categoryRepository;
+    private final ReferenceDataCache referenceData;
+    private final EventSearchIndex searchIndex;
+    private final EventSuggestIndex suggestIndex;
+    private final EventGeoIndex geoIndex;
+    private final EventCalendarIndex calendarIndex;
+    private final EventFacetIndex facetIndex;
+    private final SearchResultCache resultCache;
+    private final EventVocabularyIndex vocabularyIndex;
+    private final FavoriteBitmapIndex favoriteIndex;
+    private final EventTrendingIndex trendingIndex;
+    private final EventSimilarityIndex similarityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    // Lectures identiques simultanées : une seule requête SQL, résultat partagé
+    private final SingleFlight<UUID, EventResponse> eventLoads = new SingleFlight<>();
+    private final SingleFlight<PageKey, CursorPage<EventResponse>> pageLoads = new SingleFlight<>();
+
+    @Value("${eventy.single-flight.enabled:true}")
+    private boolean singleFlightEnabled = true;
+
+    // Attente maximale du résultat d'une lecture identique déjà en cours
+    @Value("${eventy.single-flight.timeout:PT5S}")
+    private Duration singleFlightTimeout = Duration.ofSeconds(5);
+
+    @Value("${eventy.search.mode:like}")
+    private SearchMode searchMode = SearchMode.LIKE;
+
+    // Nombre maximum de résultats renvoyés par la recherche plein texte (top-N par pertinence)
+    @Value("${eventy.search.full-text.max-results:50}")
+    private int fullTextMaxResults = 50;
+
+    @Value("${eventy.pagination.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${eventy.pagination.max-size:200}")
+    private int maxPageSize = 200;
+
+    // Nombre maximum de catégories combinées dans une recherche multicritère
+    @Value("${eventy.search.max-categories:50}")
+    private int searchMaxCategories = 50;
+
+    // Nombre d'événements exportés entre deux vidages du contexte de persistance
+    @Value("${eventy.export.clear-interval:500}")
+    private int exportClearInterval = 500;
+
+    // Bornes des recherches géographiques
+    @Value("${eventy.geo.max-results:500}")
+    private int geoMaxResults = 500;
+
+    @Value("${eventy.geo.max-radius-km:500}")
+    private double geoMaxRadiusKm = 500;
+
+    // Nombre maximum de lieux renvoyés dans les facettes
+    @Value("${eventy.facets.max-locations:20}")
+    private int facetMaxLocations = 20;
+
+    // Bornes des vues calendrier
+    @Value("${eventy.calendar.max-days:366}")
+    private int calendarMaxDays = 366;
+
+    @Value("${eventy.calendar.max-events:1000}")
+    private int calendarMaxEvents = 1000;
+
+    // Durée de conservation des suppressions pour la synchronisation incrémentale
+    @Value("${eventy.sync.tombstone-retention:P30D}")
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Transactional
     public EventResponse createEvent(EventRequest request) {
-        // Validation basique des dépendances
+        requireCoordinatePair(request);
+
+        // Validation des dépendances sur le référentiel en mémoire, puis simple référence (pas de SELECT)
         EventType type = null;
         if(request.getEventTypeId() != null) {
-            type = eventTypeRepository.findById(request.getEventTypeId())
-                    .orElseThrow(() -> new EntityNotFoundException("Type not found"));
+            if (referenceData.findType(request.getEventTypeId()) == null) {
+                throw new EntityNotFoundException("Type not found");
+            }
+            type = eventTypeRepository.getReferenceById(request.getEventTypeId());
         }
 
         EventCategory category = null;
         if(request.getCategoryId() != null) {
-            category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new EntityNotFoundException("Category not found"));
+            if (referenceData.findCategory(request.getCategoryId()) == null) {
+                throw new EntityNotFoundException("Category not found");
+            }
+            category = categoryRepository.getReferenceById(request.getCategoryId());
         }
 
         Event event = new Event();
@@ -50,6 +182,8 @@ public class EventService {
         event.setEndDate(LocalDate.from(request.getEndDate()));
         event.setLocation(request.getLocation());
         event.setFullAddress(request.getFullAddress());
+        event.setLatitude(request.getLatitude());
+        event.setLongitude(request.getLongitude());
         event.setImageUrl(request.getImageUrl());
         event.setStatus(EventStatus.active); // Statut par défaut
         event.setCreatorId(request.getCreatorId());
@@ -58,33 +192,364 @@ public class EventService {
         event.setCategory(category);
 
         Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventChange.created(EventSnapshot.from(savedEvent)));
         return mapToResponse(savedEvent);
     }
 
-    @Transactional(readOnly = true)
-    public List<EventResponse> getAvailableEvents(String keyword, String location, UUID categoryId) {
-    return eventRepository.searchEvents(keyword, location, categoryId).stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
-}
+    /**
+     * Available events matching the filters, one page at a time. Keyword searches answered by the full-text
+     * engine are ranked, so they return a single top-N page without cursor. Those answered by the in-memory
+     * index are paged by cursor like the SQL searches, in ascending start date order.
+     * <p>
+     * Full-text results and the first ascending page of every filter combination go through the
+     * {@link SearchResultCache}; the first page is cached as a window of {@code max-size} IDs so that
+     * any page size can be served from it. Concurrent calls with the same parameters share one read;
+     * the transaction is opened by the caller that runs it, so waiting callers hold no connection.
+     */
+    public CursorPage<EventResponse> getAvailableEventsPage(String keyword, String location, UUID categoryId,
+                                                            String cursor, Integer size, Sort.Direction direction) {
+        if (!singleFlightEnabled) {
+            return inReadOnlyTransaction(() -> loadAvailableEventsPage(keyword, location, categoryId, cursor, size, direction));
+        }
+        return pageLoads.execute(new PageKey(keyword, location, categoryId, cursor, size, direction), singleFlightTimeout,
+                () -> inReadOnlyTransaction(() -> loadAvailableEventsPage(keyword, location, categoryId, cursor, size, direction)));
+    }
+
+    private CursorPage<EventResponse> loadAvailableEventsPage(String keyword, String location, UUID categoryId,
+                                                              String cursor, Integer size, Sort.Direction direction) {
+        int pageSize = resolvePageSize(size);
+        SearchResultCache.Key key = SearchResultCache.Key.of(keyword, location, categoryId);
+
+        if (keyword != null && !keyword.isBlank() && useMemoryIndex()) {
+            return searchIndexPage(keyword, location, categoryId, cursor, pageSize);
+        }
+        if (useFullText(keyword)) {
+            SearchResultCache.Entry cached = resultCache.getIfPresent(key);
+            if (cached == null) {
+                long generation = resultCache.generation();
+                List<Event> events = eventRepository.fullTextSearch(keyword.trim(), location,
+                        categoryId != null ? categoryId.toString() : null, fullTextMaxResults);
+                resultCache.put(key, SearchResultCache.Entry.ranked(events), generation);
+                return new CursorPage<>(events.stream().limit(pageSize).map(this::mapToResponse).toList(), null);
+            }
+            return new CursorPage<>(getEventsByIds(cached.ids().stream().limit(pageSize).toList()), null);
+        }
+
+        Specification<Event> filter = EventSpecifications.isAvailable(keyword, location, categoryId);
+        if ((cursor != null && !cursor.isBlank()) || direction == Sort.Direction.DESC) {
+            return scroll(filter, cursor, size, direction);
+        }
+        SearchResultCache.Entry window = resultCache.getIfPresent(key);
+        if (window == null) {
+            long generation = resultCache.generation();
+            Sort sort = EventSpecifications.keysetSort(Sort.Direction.ASC);
+            List<EventResponse> rows = eventRepository.findResponses(filter, sort, maxPageSize + 1);
+            resultCache.put(key, SearchResultCache.Entry.window(rows), generation);
+            return toPage(withFavoriteCounts(rows), pageSize);
+        }
+        List<UUID> ids = window.ids().stream().limit(pageSize).toList();
+        return toWindowPage(window, pageSize, getEventsByIds(ids));
+    }
+
+    // L'index trie déjà par (date de début, ID) : seuls les pageSize + 1 IDs suivant le curseur sont chargés
+    private CursorPage<EventResponse> searchIndexPage(String keyword, String location, UUID categoryId,
+                                                      String cursor, int pageSize) {
+        EventSearchIndex.Hit after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            EventCursor position = EventCursor.decode(cursor);
+            after = new EventSearchIndex.Hit(position.eventId(), position.startDate());
+        }
+        List<EventSearchIndex.Hit> hits = searchIndex.page(keyword, location, categoryId, after, pageSize + 1);
+        List<UUID> ids = hits.stream().limit(pageSize).map(EventSearchIndex.Hit::eventId).toList();
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            EventSearchIndex.Hit last = hits.get(pageSize - 1);
+            nextCursor = new EventCursor(last.startDate(), last.eventId()).encode();
+        }
+        return new CursorPage<>(getEventsByIds(ids), nextCursor);
+    }
 
     @Transactional(readOnly = true)
     public List<EventResponse> getAllEvents() {
-        return eventRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return withFavoriteCounts(eventRepository.findResponses(null, EventSpecifications.keysetSort(Sort.Direction.ASC), 0));
+    }
+
+    /**
+     * Events created, updated or deleted since the token, oldest change first, read in a single snapshot.
+     * Without a token, the whole catalog is returned page by page (initial sync).
+     *
+     * @throws ChangeTokenExpiredException when deletions after the token have already been purged
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public EventChangesResponse getChangesSince(String token, Integer size) {
+        long since = token == null || token.isBlank() ? 0 : EventChangeToken.decode(token).sequence();
+        if (since > 0 && since < eventRepository.findChangeHorizon()) {
+            throw new ChangeTokenExpiredException("Change token expired, a full sync is required");
+        }
+        int pageSize = resolvePageSize(size);
+        List<EventChangeRow> rows = eventRepository.findChangesSince(since, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<UUID> changedIds = new ArrayList<>();
+        List<UUID> deletedIds = new ArrayList<>();
+        for (EventChangeRow row : rows) {
+            if (Boolean.TRUE.equals(row.getDeleted())) {
+                deletedIds.add(row.getEventId());
+            } else {
+                changedIds.add(row.getEventId());
+            }
+        }
+        long next = rows.isEmpty() ? since : rows.get(rows.size() - 1).getChangeSeq();
+        return EventChangesResponse.builder()
+                .changed(getEventsByIds(changedIds))
+                .deleted(deletedIds)
+                .nextToken(new EventChangeToken(next).encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Purge the deletions kept longer than the retention; older tokens then get a 410
+     */
+    @Scheduled(fixedDelayString = "${eventy.sync.purge-interval:PT6H}",
+               initialDelayString = "${eventy.sync.purge-interval:PT6H}")
+    @Transactional
+    public void purgeTombstones() {
+        eventRepository.purgeTombstones(tombstoneRetention.toSeconds());
+    }
+    /**
+     * Stream the whole catalog to the sink, inside a single read-only snapshot.
+     * The persistence context is cleared regularly so that memory stays flat whatever the catalog size.
+     *
+     * @return number of exported events
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportEvents(Consumer<EventResponse> sink) {
+        long count = 0;
+        try (Stream<Event> events = eventRepository.streamAllForExport()) {
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(mapToResponse(iterator.next()));
+                if (++count % exportClearInterval == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
     }
+
     @Transactional(readOnly = true)
     public List<EventResponse> searchEvents(String keyword) {
-        return eventRepository.searchByKeyword(keyword).stream()
+        if (useMemoryIndex()) {
+            return getEventsByIds(searchIndex.search(keyword, null, null, false));
+        }
+        List<Event> events = useFullText(keyword)
+                ? eventRepository.fullTextSearchByKeyword(keyword.trim(), fullTextMaxResults)
+                : eventRepository.searchByKeyword(keyword);
+        return events.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
+    /**
+     * Typo-tolerant variant of a keyword: unknown words are replaced by the closest words used in
+     * event names and locations, so that a single search finds what the user meant
+     *
+     * @return the corrected keyword, or the keyword itself when nothing was corrected
+     */
+    public String correctKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return keyword;
+        }
+        return vocabularyIndex.correct(keyword);
+    }
+
+    /**
+     * Autocomplete on event names and locations, served from memory only
+     *
+     * @param limit maximum number of suggestions of each kind (capped to {@link EventSuggestIndex#MAX_SUGGESTIONS})
+     */
+    public SuggestionResponse suggest(String prefix, int limit) {
+        int max = Math.max(1, Math.min(limit, EventSuggestIndex.MAX_SUGGESTIONS));
+        return SuggestionResponse.builder()
+                .events(suggestIndex.suggestNames(prefix, max).stream()
+                        .map(s -> new SuggestionResponse.EventSuggestion(s.eventId(), s.name(), s.location(), s.startDate()))
+                        .toList())
+                .locations(suggestIndex.suggestLocations(prefix, max).stream()
+                        .map(s -> new SuggestionResponse.LocationSuggestion(s.location(), s.eventCount()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Event counts per category, type, location and status for the given filters.
+     * Unfiltered counts (optionally restricted to one status) are read from the in-memory aggregates;
+     * filtered searches are counted by the in-memory search index when enabled, otherwise by a single grouped query.
+     *
+     * @param status restrict the counts to one status (null for every status)
+     */
+    @Transactional(readOnly = true)
+    public FacetResponse getFacets(String keyword, String location, UUID categoryId, EventStatus status) {
+        boolean filtered = (keyword != null && !keyword.isBlank())
+                || (location != null && !location.isBlank())
+                || categoryId != null;
+
+        EventFacetIndex.FacetCounts counts;
+        if (!filtered) {
+            counts = facetIndex.counts(status);
+        } else if (useMemoryIndex()) {
+            counts = facetIndex.counts(searchIndex.search(keyword, location, categoryId, false), status);
+        } else {
+            String category = categoryId != null ? categoryId.toString() : null;
+            String statusName = status != null ? status.name() : null;
+            counts = toFacetCounts(useFullText(keyword)
+                    ? eventRepository.fullTextFacetCounts(keyword.trim(), location, category, statusName)
+                    : eventRepository.facetCounts(keyword, location, category, statusName));
+        }
+        return toFacetResponse(counts);
+    }
+
+    /**
+     * Active upcoming events within the radius of a point, nearest first
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyEventResponse> getNearbyEvents(double latitude, double longitude, double radiusKm, int limit) {
+        checkCoordinates(latitude, longitude);
+        if (!(radiusKm > 0 && radiusKm <= geoMaxRadiusKm)) {
+            throw new InvalidRequestException("radiusKm must be greater than 0 and at most " + geoMaxRadiusKm);
+        }
+        List<EventGeoIndex.Hit> hits = geoIndex.nearby(latitude, longitude, radiusKm, resolveGeoLimit(limit));
+        Map<UUID, Double> distances = hits.stream()
+                .collect(Collectors.toMap(EventGeoIndex.Hit::eventId, EventGeoIndex.Hit::distanceKm));
+        return getEventsByIds(hits.stream().map(EventGeoIndex.Hit::eventId).toList()).stream()
+                .map(event -> new NearbyEventResponse(event, Math.round(distances.get(event.getId()) * 1000) / 1000.0))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Active upcoming events inside a bounding box (map view), soonest first.
+     * The box may cross the antimeridian (west greater than east).
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsWithin(double south, double west, double north, double east, int limit) {
+        checkCoordinates(south, west);
+        checkCoordinates(north, east);
+        if (south > north) {
+            throw new InvalidRequestException("south must not be greater than north");
+        }
+        return getEventsByIds(geoIndex.within(south, west, north, east, resolveGeoLimit(limit)));
+    }
+
+    /**
+     * Active events taking place on at least one day of [from, to] (calendar views), soonest first, with the
+     * number of events on each day of the window. Answered by the in-memory interval tree.
+     *
+     * @param limit maximum number of events returned (0 for the day counts only)
+     */
+    @Transactional(readOnly = true)
+    public CalendarResponse getCalendar(LocalDate from, LocalDate to, UUID categoryId, int limit) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= calendarMaxDays) {
+            throw new InvalidRequestException("The calendar window must not exceed " + calendarMaxDays + " days");
+        }
+        EventCalendarIndex.Window window = calendarIndex.window(from, to, categoryId,
+                Math.max(0, Math.min(limit, calendarMaxEvents)));
+        List<CalendarResponse.CalendarDay> days = new ArrayList<>(window.dayCounts().length);
+        for (int day = 0; day < window.dayCounts().length; day++) {
+            days.add(new CalendarResponse.CalendarDay(from.plusDays(day), window.dayCounts()[day]));
+        }
+        return CalendarResponse.builder()
+                .from(from)
+                .to(to)
+                .total(window.total())
+                .truncated(window.eventIds().size() < window.total())
+                .days(days)
+                .events(getEventsByIds(window.eventIds()))
+                .build();
+    }
+
+    /**
+     * Active upcoming events ranked by their time-decayed favorites and views, read from the bounded
+     * in-memory ranking of the category (or of the whole catalog)
+     */
+    @Transactional(readOnly = true)
+    public List<TrendingEventResponse> getTrendingEvents(UUID categoryId, int limit) {
+        List<EventTrendingIndex.Hit> hits = trendingIndex.trending(categoryId,
+                Math.max(1, Math.min(limit, trendingIndex.capacity())));
+        Map<UUID, Double> scores = hits.stream()
+                .collect(Collectors.toMap(EventTrendingIndex.Hit::eventId, EventTrendingIndex.Hit::score));
+        return getEventsByIds(hits.stream().map(EventTrendingIndex.Hit::eventId).toList()).stream()
+                .map(event -> new TrendingEventResponse(event, Math.round(scores.get(event.getId()) * 1000) / 1000.0))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Active upcoming events most often favorited by the users who favorited this one (precomputed co-favorite
+     * similarity, read from memory)
+     */
     @Transactional(readOnly = true)
+    public List<RecommendedEventResponse> getSimilarEvents(UUID eventId, int limit) {
+        return toRecommendations(similarityIndex.similar(eventId, resolveSimilarityLimit(limit)));
+    }
+
+    /**
+     * Active upcoming events most similar to a set of favorites, the favorites themselves excluded
+     */
+    @Transactional(readOnly = true)
+    public List<RecommendedEventResponse> getRecommendedEvents(Collection<UUID> favoriteIds, int limit) {
+        return toRecommendations(similarityIndex.recommend(favoriteIds, resolveSimilarityLimit(limit)));
+    }
+
+    /**
+     * Load the given events, keeping the order of the IDs (unknown IDs are skipped)
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsByIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, EventResponse> events = withFavoriteCounts(eventRepository.findResponsesByIds(ids)).stream()
+                .collect(Collectors.toMap(EventResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Concurrent reads of the same event share one query (each of them still counts as a view)
+     */
     public EventResponse getEventById(UUID id) {
-        Event event = eventRepository.findById(id)
+        EventResponse event = singleFlightEnabled
+                ? eventLoads.execute(id, singleFlightTimeout, () -> loadEvent(id))
+                : loadEvent(id);
+        trendingIndex.recordView(id);
+        return event;
+    }
+
+    private EventResponse loadEvent(UUID id) {
+        EventResponse event = eventRepository.findResponseById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found with ID: " + id));
-        return mapToResponse(event);
+        event.setFavoriteCount(favoriteIndex.count(id));
+        return event;
+    }
+
+    /**
+     * Reads run versus reads served by an identical concurrent read
+     */
+    public SingleFlightStatsResponse singleFlightStats() {
+        return SingleFlightStatsResponse.builder()
+                .enabled(singleFlightEnabled)
+                .eventLoadCount(eventLoads.loadCount())
+                .eventSharedCount(eventLoads.sharedCount())
+                .searchLoadCount(pageLoads.loadCount())
+                .searchSharedCount(pageLoads.sharedCount())
+                .timeoutCount(eventLoads.timeoutCount() + pageLoads.timeoutCount())
+                .build();
     }
 
     @Transactional
@@ -93,6 +558,7 @@ public class EventService {
             throw new EntityNotFoundException("Event not found with ID: " + id);
         }
         eventRepository.deleteById(id);
+        eventPublisher.publishEvent(EventChange.deleted(id));
     }
 
 
@@ -100,20 +566,24 @@ public class EventService {
 
     @Transactional
     public EventResponse updateEvent(UUID id, EventRequest request) {
+        requireCoordinatePair(request);
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found with ID: " + id));
+        EventSnapshot before = EventSnapshot.from(event);
 
         // Mise à jour des relations si elles changent
         if (request.getEventTypeId() != null) {
-            EventType type = eventTypeRepository.findById(request.getEventTypeId())
-                    .orElseThrow(() -> new EntityNotFoundException("EventType not found"));
-            event.setEventType(type);
+            if (referenceData.findType(request.getEventTypeId()) == null) {
+                throw new EntityNotFoundException("EventType not found");
+            }
+            event.setEventType(eventTypeRepository.getReferenceById(request.getEventTypeId()));
         }
 
         if (request.getCategoryId() != null) {
-            EventCategory category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new EntityNotFoundException("EventCategory not found"));
-            event.setCategory(category);
+            if (referenceData.findCategory(request.getCategoryId()) == null) {
+                throw new EntityNotFoundException("EventCategory not found");
+            }
+            event.setCategory(categoryRepository.getReferenceById(request.getCategoryId()));
         }
 
         // Mise à jour des champs simples
@@ -123,9 +593,13 @@ public class EventService {
         event.setEndDate(LocalDate.from(request.getEndDate()));
         event.setLocation(request.getLocation());
         event.setFullAddress(request.getFullAddress());
+        event.setLatitude(request.getLatitude());
+        event.setLongitude(request.getLongitude());
         event.setImageUrl(request.getImageUrl());
 
-        return mapToResponse(eventRepository.save(event));
+        Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventChange.updated(before, EventSnapshot.from(savedEvent)));
+        return mapToResponse(savedEvent);
     }
 
     @Transactional
@@ -133,30 +607,202 @@ public class EventService {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found with ID: " + id));
 
+        EventSnapshot before = EventSnapshot.from(event);
         event.setStatus(status);
-        return mapToResponse(eventRepository.save(event));
+        Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventChange.statusChanged(before, EventSnapshot.from(savedEvent)));
+        return mapToResponse(savedEvent);
     }
 
     @Transactional(readOnly = true)
-    public List<EventResponse> getEventsByStatus(EventStatus status) {
-        return eventRepository.findByStatus(status).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<EventResponse> getEventsByStatus(EventStatus status, String cursor, Integer size,
+                                                       Sort.Direction direction) {
+        return scroll(EventSpecifications.hasStatus(status), cursor, size, direction);
     }
 
     @Transactional(readOnly = true)
-    public List<EventResponse> getEventsByCreator(UUID creatorId) {
-        return eventRepository.findByCreatorId(creatorId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<EventResponse> getEventsByCreator(UUID creatorId, String cursor, Integer size,
+                                                        Sort.Direction direction) {
+        return scroll(EventSpecifications.createdBy(creatorId), cursor, size, direction);
     }
 
     @Transactional(readOnly = true)
-    public List<EventResponse> getUpcomingEvents() {
-        return eventRepository.findByStartDateAfter(LocalDateTime.now()).stream()
-                .map(this::mapToResponse)
+    public CursorPage<EventResponse> getUpcomingEvents(String cursor, Integer size, Sort.Direction direction) {
+        return scroll(EventSpecifications.startingAfter(LocalDate.now()), cursor, size, direction);
+    }
+
+    /**
+     * Multi-criteria search, one page at a time in start date order. Only the filters supplied reach the SQL.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EventResponse> searchEvents(EventSearchCriteria criteria, String cursor, Integer size,
+                                                  Sort.Direction direction) {
+        LocalDate from = criteria.startFrom();
+        if (from != null && criteria.startTo() != null && from.isAfter(criteria.startTo())) {
+            throw new InvalidRequestException("from must not be after to");
+        }
+        if (criteria.categoryIds() != null && criteria.categoryIds().size() > searchMaxCategories) {
+            throw new InvalidRequestException("At most " + searchMaxCategories + " categories can be searched at once");
+        }
+        return scroll(EventSpecifications.matching(criteria), cursor, size, direction);
+    }
+
+    /**
+     * Seek pagination on (start_date, event_id): one extra row is fetched to know whether a next page exists.
+     * The cost of a page does not depend on its depth, unlike OFFSET.
+     */
+    private CursorPage<EventResponse> scroll(Specification<Event> filter, String cursor, Integer size,
+                                             Sort.Direction direction) {
+        int pageSize = resolvePageSize(size);
+        Sort.Direction sortDirection = direction != null ? direction : Sort.Direction.ASC;
+        Specification<Event> spec = filter;
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(EventSpecifications.seek(EventCursor.decode(cursor), sortDirection));
+        }
+        Sort sort = EventSpecifications.keysetSort(sortDirection);
+        return toPage(withFavoriteCounts(eventRepository.findResponses(spec, sort, pageSize + 1)), pageSize);
+    }
+
+    // Compteurs lus dans l'index bitmap des favoris, jamais en base
+    private List<EventResponse> withFavoriteCounts(List<EventResponse> events) {
+        events.forEach(event -> event.setFavoriteCount(favoriteIndex.count(event.getId())));
+        return events;
+    }
+
+    // rows : jusqu'à pageSize + 1 lignes, la ligne en trop signale une page suivante
+    private static CursorPage<EventResponse> toPage(List<EventResponse> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        EventResponse last = rows.get(pageSize - 1);
+        String nextCursor = new EventCursor(last.getStartDate().toLocalDate(), last.getId()).encode();
+        return new CursorPage<>(rows.subList(0, pageSize), nextCursor);
+    }
+
+    private static CursorPage<EventResponse> toWindowPage(SearchResultCache.Entry window, int pageSize,
+                                                          List<EventResponse> items) {
+        String nextCursor = null;
+        if (window.ids().size() > pageSize) {
+            nextCursor = new EventCursor(window.startDates().get(pageSize - 1), window.ids().get(pageSize - 1)).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // Les méthodes publiques coalescées ne sont pas @Transactional : la transaction n'est ouverte que par l'appelant
+    // qui exécute la lecture
+    private <T> T inReadOnlyTransaction(Supplier<T> read) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> read.get());
+    }
+
+    private record PageKey(String keyword, String location, UUID categoryId, String cursor, Integer size,
+                           Sort.Direction direction) {
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // Tant que le premier chargement n'est pas terminé, on continue d'interroger la base
+    private boolean useMemoryIndex() {
+        return searchMode == SearchMode.MEMORY && searchIndex.isReady();
+    }
+
+    private static EventFacetIndex.FacetCounts toFacetCounts(List<FacetCountRow> rows) {
+        long total = 0;
+        Map<UUID, Long> categories = new HashMap<>();
+        Map<UUID, Long> types = new HashMap<>();
+        Map<String, Long> locations = new HashMap<>();
+        Map<EventStatus, Long> statuses = new EnumMap<>(EventStatus.class);
+        for (FacetCountRow row : rows) {
+            if ("total".equals(row.getDimension())) {
+                total = row.getCount();
+            } else if (row.getValue() != null) {
+                switch (row.getDimension()) {
+                    case "category" -> categories.put(UUID.fromString(row.getValue()), row.getCount());
+                    case "type" -> types.put(UUID.fromString(row.getValue()), row.getCount());
+                    case "location" -> locations.merge(row.getLabel().trim(), row.getCount(), Long::sum);
+                    case "status" -> statuses.put(EventStatus.valueOf(row.getValue()), row.getCount());
+                    default -> { }
+                }
+            }
+        }
+        return new EventFacetIndex.FacetCounts(total, categories, types, locations, statuses);
+    }
+
+    private FacetResponse toFacetResponse(EventFacetIndex.FacetCounts counts) {
+        return FacetResponse.builder()
+                .total(counts.total())
+                .categories(facetValues(counts.categories(), UUID::toString, referenceData::categoryLabel, Integer.MAX_VALUE))
+                .types(facetValues(counts.types(), UUID::toString, referenceData::typeLabel, Integer.MAX_VALUE))
+                .locations(facetValues(counts.locations(), Function.identity(), Function.identity(), facetMaxLocations))
+                .statuses(facetValues(counts.statuses(), EventStatus::name, EventStatus::name, Integer.MAX_VALUE))
+                .build();
+    }
+
+    private static <K> List<FacetResponse.FacetValue> facetValues(Map<K, Long> counts, Function<K, String> value,
+                                                                 Function<K, String> label, int limit) {
+        return counts.entrySet().stream()
+                .map(e -> new FacetResponse.FacetValue(value.apply(e.getKey()), label.apply(e.getKey()), e.getValue()))
+                .sorted(Comparator.comparingLong(FacetResponse.FacetValue::getCount).reversed()
+                        .thenComparing(FacetResponse.FacetValue::getValue))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private List<RecommendedEventResponse> toRecommendations(List<EventSimilarityIndex.Hit> hits) {
+        Map<UUID, Double> scores = hits.stream()
+                .collect(Collectors.toMap(EventSimilarityIndex.Hit::eventId, EventSimilarityIndex.Hit::score));
+        return getEventsByIds(hits.stream().map(EventSimilarityIndex.Hit::eventId).toList()).stream()
+                .map(event -> new RecommendedEventResponse(event, Math.round(scores.get(event.getId()) * 1000) / 1000.0))
                 .collect(Collectors.toList());
     }
+
+    private int resolveSimilarityLimit(int limit) {
+        return Math.max(1, Math.min(limit, similarityIndex.capacity()));
+    }
+
+    private int resolveGeoLimit(int limit) {
+        return Math.max(1, Math.min(limit, geoMaxResults));
+    }
+
+    private static void checkCoordinates(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+            throw new InvalidRequestException("Invalid coordinates: " + latitude + ", " + longitude);
+        }
+    }
+
+    private static void requireCoordinatePair(EventRequest request) {
+        if ((request.getLatitude() == null) != (request.getLongitude() == null)) {
+            throw new InvalidRequestException("Latitude and longitude must be provided together");
+        }
+    }
+
+    private boolean useFullText(String keyword) {
+        return searchMode == SearchMode.FULL_TEXT && keyword != null && !keyword.isBlank();
+    }
+
+    // Les relations sont LAZY : seul l'ID du proxy est lu, le libellé vient du référentiel en mémoire
+    private String typeLabel(EventType type) {
+        if (type == null) {
+            return null;
+        }
+        String label = referenceData.typeLabel(type.getEventTypeId());
+        return label != null || !Hibernate.isInitialized(type) ? label : type.getLabel();
+    }
+
+    private String categoryLabel(EventCategory category) {
+        if (category == null) {
+            return null;
+        }
+        String label = referenceData.categoryLabel(category.getCategoryId());
+        return label != null || !Hibernate.isInitialized(category) ? label : category.getLabel();
+    }
+
     // Mapper utilitaire (pourrait être remplacé par MapStruct)
     private EventResponse mapToResponse(Event event) {
         return EventResponse.builder()
@@ -167,11 +813,14 @@ public class EventService {
                 .endDate(event.getEndDate().atStartOfDay())
                 .location(event.getLocation())
                 .fullAddress(event.getFullAddress())
+                .latitude(event.getLatitude())
+                .longitude(event.getLongitude())
                 .imageUrl(event.getImageUrl())
                 .status(event.getStatus() != null ? event.getStatus().name() : "UNKNOWN")
-                .typeLabel(event.getEventType() != null ? event.getEventType().getLabel() : null)
-                .categoryLabel(event.getCategory() != null ? event.getCategory().getLabel() : null)
+                .typeLabel(typeLabel(event.getEventType()))
+                .categoryLabel(categoryLabel(event.getCategory()))
                 .creatorId(event.getCreatorId())
+                .favoriteCount(favoriteIndex.count(event.getEventId()))
                 .build();
     }
 }
\ No newline at end of file
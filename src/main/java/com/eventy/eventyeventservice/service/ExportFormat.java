@@ -0,0 +1,42 @@
+package com.eventy.eventyeventservice.service;
+
+import com.eventy.eventyeventservice.exception.InvalidRequestException;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by the catalog export
+ */
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @throws InvalidRequestException for an unknown format
+     */
+    public static ExportFormat fromString(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Unsupported export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.eventy.eventyeventservice.service;
+
+import com.eventy.eventyeventservice.cache.FavoriteMembershipCache;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.dto.CursorPage;
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.dto.FavoriteCursor;
+import com.eventy.eventyeventservice.dto.FavoriteRequest;
+import com.eventy.eventyeventservice.dto.FavoriteResponse;
+import com.eventy.eventyeventservice.dto.RecommendedEventResponse;
+import com.eventy.eventyeventservice.exception.InvalidRequestException;
+import com.eventy.eventyeventservice.index.FavoriteBitmapIndex;
+import com.eventy.eventyeventservice.model.Favorite;
+import com.eventy.eventyeventservice.repository.EventRepository;
+import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class FavoriteService {
+
+    private static final Comparator<FavoriteResponse> KEYSET_ORDER = (a, b) ->
+            compareKeyset(a.getAddedDate(), a.getFavoriteId(), b.getAddedDate(), b.getFavoriteId());
+
+    private final FavoriteRepository favoriteRepository;
+    private final EventRepository eventRepository;
+    private final FavoriteMembershipCache membershipCache;
+    private final FavoriteBitmapIndex favoriteIndex;
+    private final FavoriteWriteBuffer writeBuffer;
+    private final EventService eventService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${eventy.pagination.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${eventy.pagination.max-size:200}")
+    private int maxPageSize = 200;
+
+    @Value("${eventy.favorites.contains.max-ids:500}")
+    private int containsMaxIds = 500;
+
+    /**
+     * True when favorite writes are buffered and flushed asynchronously (see {@link FavoriteWriteBuffer})
+     */
+    public boolean isWriteBehind() {
+        return writeBuffer.isEnabled();
+    }
+
+    /**
+     * One page of a user's favorites, most recent first. The compact rows are built by the query
+     * (one join on event), one extra row is fetched to know whether a next page exists.
+     * Toggles still pending in the write-behind buffer are merged into the rows before the page is cut:
+     * a pending addition is listed with the ID its row will be inserted with, so the cursor stays valid
+     * once it is written.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<FavoriteResponse> getFavoritesByUser(UUID userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        FavoriteCursor position = cursor != null && !cursor.isBlank() ? FavoriteCursor.decode(cursor) : null;
+        Map<UUID, FavoriteWriteBuffer.Pending> pending = writeBuffer.pendingFor(userId);
+
+        // Les lignes masquées par un retrait en attente sont compensées pour remplir la page
+        Limit limit = Limit.of(pageSize + 1 + pending.size());
+        List<FavoriteResponse> rows = position != null
+                ? favoriteRepository.findPageByUserIdAfter(userId, position.addedDate(), position.favoriteId(), limit)
+                : favoriteRepository.findPageByUserId(userId, limit);
+        if (!pending.isEmpty()) {
+            rows = withPending(userId, rows, pending, position);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            FavoriteResponse last = rows.get(pageSize - 1);
+            nextCursor = new FavoriteCursor(last.getAddedDate(), last.getFavoriteId()).encode();
+            rows = rows.subList(0, pageSize);
+        }
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    /**
+     * IDs of the events favorited by a user, for clients that already hold the event data
+     */
+    @Transactional(readOnly = true)
+    public List<UUID> getFavoriteEventIds(UUID userId) {
+        long generation = membershipCache.generation();
+        List<UUID> eventIds = favoriteRepository.findEventIdsByUserId(userId);
+        membershipCache.put(userId, eventIds, generation);
+
+        Map<UUID, FavoriteWriteBuffer.Pending> pending = writeBuffer.pendingFor(userId);
+        if (pending.isEmpty()) {
+            return eventIds;
+        }
+        List<UUID> result = new ArrayList<>();
+        pending.forEach((eventId, state) -> {
+            if (state.favorite()) {
+                result.add(eventId);
+            }
+        });
+        eventIds.stream().filter(eventId -> !pending.containsKey(eventId)).forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Active upcoming events similar to the user's favorites (co-favorite model precomputed in memory)
+     */
+    @Transactional(readOnly = true)
+    public List<RecommendedEventResponse> getRecommendations(UUID userId, int limit) {
+        return eventService.getRecommendedEvents(getFavoriteEventIds(userId), limit);
+    }
+
+    /**
+     * Favorite flag of each given event for the user, in request order. Answered from the favorite bitmaps
+     * once loaded, else from the user's in-memory set when it is warm, otherwise with a single IN query.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, Boolean> containsFavorites(UUID userId, List<UUID> eventIds) {
+        if (eventIds == null || eventIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("eventIds must be a list of event IDs");
+        }
+        Set<UUID> requested = new LinkedHashSet<>(eventIds);
+        if (requested.size() > containsMaxIds) {
+            throw new InvalidRequestException("At most " + containsMaxIds + " event IDs per request");
+        }
+        Map<UUID, Boolean> result = new LinkedHashMap<>();
+        if (requested.isEmpty()) {
+            return result;
+        }
+
+        Set<UUID> favorited = favoriteIndex.isReady()
+                ? favoriteIndex.favoritedAmong(userId, requested)
+                : membershipCache.getIfPresent(userId);
+        if (favorited == null) {
+            favorited = Set.copyOf(favoriteRepository.findFavoritedEventIds(userId, requested));
+        }
+        Map<UUID, FavoriteWriteBuffer.Pending> pending = writeBuffer.pendingFor(userId);
+        for (UUID eventId : requested) {
+            FavoriteWriteBuffer.Pending state = pending.get(eventId);
+            result.put(eventId, state != null ? state.favorite() : favorited.contains(eventId));
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public FavoriteResponse getFavoriteById(UUID id) {
+        return favoriteRepository.findResponseById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Favorite not found with ID: " + id));
+    }
+
+    /**
+     * Add an event to a user's favorites. Adding it twice returns the existing favorite.
+     */
+    @Transactional
+    public FavoriteResponse addFavorite(FavoriteRequest request) {
+        if (!eventRepository.existsById(request.getEventId())) {
+            throw new EntityNotFoundException("Event not found with ID: " + request.getEventId());
+        }
+        UUID favoriteId = favoriteRepository.findByUserIdAndEvent_EventId(request.getUserId(), request.getEventId())
+                .map(Favorite::getFavoriteId)
+                .orElseGet(() -> {
+                    Favorite favorite = new Favorite();
+                    favorite.setUserId(request.getUserId());
+                    favorite.setEvent(eventRepository.getReferenceById(request.getEventId()));
+                    favorite.setAddedDate(LocalDate.now());
+                    UUID savedId = favoriteRepository.saveAndFlush(favorite).getFavoriteId();
+                    eventPublisher.publishEvent(FavoriteChange.added(request.getUserId(), request.getEventId()));
+                    return savedId;
+                });
+        return getFavoriteById(favoriteId);
+    }
+
+    /**
+     * Write-behind variant of {@link #addFavorite}: the toggle is buffered and written by the next flush
+     */
+    @Transactional(readOnly = true)
+    public void addFavoriteLater(FavoriteRequest request) {
+        if (!eventRepository.existsById(request.getEventId())) {
+            throw new EntityNotFoundException("Event not found with ID: " + request.getEventId());
+        }
+        writeBuffer.add(request.getUserId(), request.getEventId());
+    }
+
+    @Transactional
+    public void deleteFavorite(UUID id) {
+        Favorite favorite = favoriteRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Favorite not found with ID: " + id));
+        if (writeBuffer.isEnabled()) {
+            writeBuffer.remove(favorite.getUserId(), favorite.getEvent().getEventId());
+            return;
+        }
+        favoriteRepository.delete(favorite);
+        eventPublisher.publishEvent(FavoriteChange.removed(favorite.getUserId(), favorite.getEvent().getEventId()));
+    }
+
+    @Transactional
+    public void deleteFavorite(UUID userId, UUID eventId) {
+        if (writeBuffer.isEnabled()) {
+            writeBuffer.remove(userId, eventId);
+            return;
+        }
+        favoriteRepository.findByUserIdAndEvent_EventId(userId, eventId)
+                .ifPresent(favorite -> {
+                    favoriteRepository.delete(favorite);
+                    eventPublisher.publishEvent(FavoriteChange.removed(userId, eventId));
+                });
+    }
+
+    // Favoris en attente d'écriture : les lignes écrites des événements concernés sont masquées,
+    // les ajouts situés après la position sont fusionnés dans l'ordre du keyset
+    // (un ajout déjà présent en base garde sa ligne, l'insertion l'ignorera)
+    private List<FavoriteResponse> withPending(UUID userId, List<FavoriteResponse> rows,
+                                               Map<UUID, FavoriteWriteBuffer.Pending> pending,
+                                               FavoriteCursor position) {
+        List<FavoriteResponse> result = new ArrayList<>();
+        List<UUID> addedIds = pending.entrySet().stream()
+                .filter(entry -> entry.getValue().favorite())
+                .map(Map.Entry::getKey)
+                .toList();
+        Set<UUID> stored = addedIds.isEmpty()
+                ? Set.of()
+                : Set.copyOf(favoriteRepository.findFavoritedEventIds(userId, addedIds));
+        List<UUID> unwritten = addedIds.stream().filter(eventId -> !stored.contains(eventId)).toList();
+        if (!unwritten.isEmpty()) {
+            for (EventResponse event : eventRepository.findResponsesByIds(unwritten)) {
+                FavoriteWriteBuffer.Pending state = pending.get(event.getId());
+                FavoriteResponse row = FavoriteResponse.builder()
+                        .favoriteId(state.favoriteId())
+                        .eventId(event.getId())
+                        .name(event.getName())
+                        .startDate(event.getStartDate())
+                        .status(event.getStatus())
+                        .addedDate(state.addedDate())
+                        .build();
+                if (position == null || compareKeyset(row.getAddedDate(), row.getFavoriteId(),
+                        position.addedDate(), position.favoriteId()) > 0) {
+                    result.add(row);
+                }
+            }
+        }
+        rows.stream()
+                .filter(row -> !pending.containsKey(row.getEventId()) || stored.contains(row.getEventId()))
+                .forEach(result::add);
+        result.sort(KEYSET_ORDER);
+        return result;
+    }
+
+    // Ordre des requêtes de page : date d'ajout puis ID décroissants, UUID comparés octet par octet
+    // comme PostgreSQL (négatif quand la première ligne vient avant)
+    private static int compareKeyset(LocalDate addedDate, UUID favoriteId, LocalDate otherDate, UUID otherId) {
+        int byDate = otherDate.compareTo(addedDate);
+        if (byDate != 0) {
+            return byDate;
+        }
+        int byHigh = Long.compareUnsigned(otherId.getMostSignificantBits(), favoriteId.getMostSignificantBits());
+        return byHigh != 0 ? byHigh
+                : Long.compareUnsigned(otherId.getLeastSignificantBits(), favoriteId.getLeastSignificantBits());
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
@@ -0,0 +1,175 @@
+package com.eventy.eventyeventservice.service;
+
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.dto.WriteBufferStatsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional write-behind buffer for favorite toggles.
+ * <p>
+ * Toggles are coalesced per (user, event): only the last requested state is kept, so that add/remove/add
+ * bursts end up as at most one row operation. Pending toggles are grouped by user in immutable maps,
+ * replaced under the per-bin lock of the outer {@link ConcurrentHashMap}, so that reads of a user's pending
+ * toggles are lock-free. A scheduled flush writes the net changes in two JDBC batches in one transaction,
+ * and publishes within it a {@link FavoriteChange} for each row actually inserted or deleted.
+ * A failed flush leaves the toggles pending for the next one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteWriteBuffer {
+
+    // Les favoris d'un événement supprimé entre-temps sont ignorés (pas d'erreur de clé étrangère pour tout le lot)
+    private static final String INSERT_SQL = "INSERT INTO favorite (favorite_id, user_id, event_id, added_date) " +
+            "SELECT ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM event WHERE event_id = ?) " +
+            "ON CONFLICT (user_id, event_id) DO NOTHING";
+
+    private static final String DELETE_SQL = "DELETE FROM favorite WHERE user_id = ? AND event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${eventy.favorites.write-behind.enabled:false}")
+    private boolean enabled = false;
+
+    private final ConcurrentHashMap<UUID, Map<UUID, Pending>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong toggles = new AtomicLong();
+    private final AtomicLong writtenRows = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    /**
+     * Last requested state of a favorite, not yet written. An addition carries the ID its row is inserted with,
+     * so that it can be listed and paged like a written favorite.
+     */
+    public record Pending(boolean favorite, LocalDate addedDate, UUID favoriteId) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(UUID userId, UUID eventId) {
+        toggle(userId, eventId, new Pending(true, LocalDate.now(), UUID.randomUUID()));
+    }
+
+    public void remove(UUID userId, UUID eventId) {
+        toggle(userId, eventId, new Pending(false, null, null));
+    }
+
+    /**
+     * Pending toggles of a user by event ID (immutable, empty when everything is written)
+     */
+    public Map<UUID, Pending> pendingFor(UUID userId) {
+        return pending.getOrDefault(userId, Map.of());
+    }
+
+    private void toggle(UUID userId, UUID eventId, Pending state) {
+        toggles.incrementAndGet();
+        pending.compute(userId, (user, current) -> {
+            Map<UUID, Pending> updated = current != null ? new HashMap<>(current) : new HashMap<>();
+            updated.put(eventId, state);
+            return Map.copyOf(updated);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${eventy.favorites.write-behind.flush-interval:PT1S}")
+    public void scheduledFlush() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Favorite write-behind flush failed, {} user(s) still pending", pending.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (enabled && !pending.isEmpty()) {
+            flush();
+        }
+    }
+
+    /**
+     * Write the net pending changes. Synchronized so that the scheduler and the shutdown hook never
+     * write the same toggles twice.
+     */
+    public synchronized void flush() {
+        Map<UUID, Map<UUID, Pending>> batch = new HashMap<>(pending);
+        List<Object[]> inserts = new ArrayList<>();
+        List<FavoriteChange> added = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<FavoriteChange> removed = new ArrayList<>();
+        batch.forEach((userId, events) -> events.forEach((eventId, state) -> {
+            if (state.favorite()) {
+                inserts.add(new Object[]{state.favoriteId(), userId, eventId, Date.valueOf(state.addedDate()), eventId});
+                added.add(FavoriteChange.added(userId, eventId));
+            } else {
+                deletes.add(new Object[]{userId, eventId});
+                removed.add(FavoriteChange.removed(userId, eventId));
+            }
+        }));
+
+        Integer written = transactionTemplate.execute(status -> {
+            int[] insertCounts = jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            int[] deleteCounts = jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            // Publiés dans la transaction : l'outbox les enregistre avant le commit, les index après
+            return publishWritten(added, insertCounts) + publishWritten(removed, deleteCounts);
+        });
+        writtenRows.addAndGet(written != null ? written : 0);
+
+        // Retirés seulement après l'écriture (et s'ils n'ont pas changé entre-temps) :
+        // les lectures voient le toggle jusqu'à ce que la base le contienne
+        batch.forEach((userId, flushed) -> pending.computeIfPresent(userId, (user, current) -> {
+            Map<UUID, Pending> remaining = new HashMap<>(current);
+            flushed.forEach(remaining::remove);
+            return remaining.isEmpty() ? null : Map.copyOf(remaining);
+        }));
+        flushes.incrementAndGet();
+        log.debug("Flushed {} favorite insert(s) and {} delete(s)", inserts.size(), deletes.size());
+    }
+
+    // Seules les lignes réellement modifiées sont notifiées (un ajout déjà présent n'est pas un changement)
+    private int publishWritten(List<FavoriteChange> changes, int[] rowCounts) {
+        int published = 0;
+        for (int i = 0; i < changes.size(); i++) {
+            if (rowCounts[i] > 0 || rowCounts[i] == Statement.SUCCESS_NO_INFO) {
+                eventPublisher.publishEvent(changes.get(i));
+                published++;
+            }
+        }
+        return published;
+    }
+
+    public WriteBufferStatsResponse stats() {
+        return WriteBufferStatsResponse.builder()
+                .enabled(enabled)
+                .pendingUsers(pending.size())
+                .pendingToggles(pending.values().stream().mapToLong(Map::size).sum())
+                .toggleCount(toggles.get())
+                .writtenRowCount(writtenRows.get())
+                .flushCount(flushes.get())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.eventy.eventyeventservice.service;
+
+/**
+ * Strategy used to answer keyword searches on the event catalog
+ */
+public enum SearchMode {
+    /**
+     * Substring match ({@code LIKE '%keyword%'}) on name and description
+     */
+    LIKE,
+    /**
+     * PostgreSQL full-text search on the {@code search_vector} column, ranked by relevance
+     */
+    FULL_TEXT,
+    /**
+     * In-process inverted index ({@code EventSearchIndex}), the database is only used to hydrate results
+     */
+    MEMORY
+}
@@ -0,0 +1,242 @@
+package com.eventy.eventyeventservice.stream;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.dto.EventNotification;
+import com.eventy.eventyeventservice.dto.StreamStatsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Single broadcaster of the catalog changes to the clients of GET /events/stream (Server-Sent Events).
+ * <p>
+ * A committed change is appended to the bounded buffer of every matching subscriber; when a buffer is full,
+ * its oldest notification is dropped and the client is told how many it missed (it can then catch up with
+ * GET /events/changes). A subscriber holds no thread while idle: the async request is released and a
+ * virtual thread is started only to drain a non-empty buffer, so a slow client never blocks the others.
+ */
+@Slf4j
+@Component
+public class EventBroadcaster {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    // Remplaçables dans les tests
+    Executor senders = virtualThreads;
+    Function<Long, SseEmitter> emitterFactory = SseEmitter::new;
+
+    public EventBroadcaster(@Value("${eventy.stream.buffer-size:64}") int bufferSize,
+                            @Value("${eventy.stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${eventy.stream.timeout:PT30M}") Duration timeout) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("eventy.stream.buffer-size must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Open a stream of the changes matching the filters
+     *
+     * @param eventIds   only these events (all when empty)
+     * @param categoryId only events of this category, before or after the change (all when null)
+     * @return empty when the maximum number of subscribers is reached
+     */
+    public Optional<SseEmitter> subscribe(Collection<UUID> eventIds, UUID categoryId) {
+        if (subscribers.size() >= maxSubscribers) {
+            rejected.incrementAndGet();
+            return Optional.empty();
+        }
+        SseEmitter emitter = emitterFactory.apply(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(eventIds), categoryId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // Premier envoi immédiat : le client sait que l'abonnement est actif
+        subscriber.offer(HEARTBEAT);
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Pushed after commit only, so that clients never see a rolled back change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Notification notification = new Notification(sequence.incrementAndGet(), EventNotification.from(change));
+        published.incrementAndGet();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(change)) {
+                subscriber.offer(notification);
+            }
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies, and detect the clients that went away
+     */
+    @Scheduled(fixedDelayString = "${eventy.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerIfIdle(HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        virtualThreads.shutdownNow();
+    }
+
+    public StreamStatsResponse stats() {
+        return StreamStatsResponse.builder()
+                .subscribers(subscribers.size())
+                .maxSubscribers(maxSubscribers)
+                .publishedCount(published.get())
+                .sentCount(sent.get())
+                .droppedCount(dropped.get())
+                .rejectedCount(rejected.get())
+                .build();
+    }
+
+    private record Notification(long id, EventNotification payload) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<UUID> eventIds;
+        private final UUID categoryId;
+        private final ArrayDeque<Object> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private int missed;
+
+        private Subscriber(SseEmitter emitter, Set<UUID> eventIds, UUID categoryId) {
+            this.emitter = emitter;
+            this.eventIds = eventIds;
+            this.categoryId = categoryId;
+        }
+
+        private boolean matches(EventChange change) {
+            if (!eventIds.isEmpty() && !eventIds.contains(change.eventId())) {
+                return false;
+            }
+            // Une suppression ne porte que l'ID : transmise à tous, le client ignore les événements inconnus
+            boolean unknownCategory = change.before() == null && change.after() == null;
+            return categoryId == null || unknownCategory || hasCategory(change.before()) || hasCategory(change.after());
+        }
+
+        private boolean hasCategory(EventSnapshot snapshot) {
+            return snapshot != null && Objects.equals(snapshot.categoryId(), categoryId);
+        }
+
+        private void offer(Object item) {
+            synchronized (buffer) {
+                if (buffer.size() == bufferSize) {
+                    buffer.removeFirst();
+                    missed++;
+                    dropped.incrementAndGet();
+                }
+                buffer.addLast(item);
+            }
+            scheduleDrain();
+        }
+
+        private void offerIfIdle(Object item) {
+            synchronized (buffer) {
+                if (!buffer.isEmpty() || draining.get()) {
+                    return;
+                }
+                buffer.addLast(item);
+            }
+            scheduleDrain();
+        }
+
+        // Un seul envoi à la fois par abonné, sur un thread virtuel démarré à la demande
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    Object item;
+                    int skipped;
+                    synchronized (buffer) {
+                        item = buffer.pollFirst();
+                        skipped = missed;
+                        missed = 0;
+                        if (item == null) {
+                            // Relâché sous le verrou : un offer concurrent relancera l'envoi
+                            draining.set(false);
+                            return;
+                        }
+                    }
+                    if (skipped > 0) {
+                        emitter.send(SseEmitter.event().name("dropped").data(skipped));
+                    }
+                    send(item);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client parti ou réponse déjà terminée
+                log.debug("Closing event stream subscriber: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void send(Object item) throws IOException {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            Notification notification = (Notification) item;
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(notification.id()))
+                    .name(notification.payload().getType().toLowerCase(Locale.ROOT))
+                    .data(notification.payload(), MediaType.APPLICATION_JSON));
+            sent.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- Recherche plein texte sur le catalogue (nom, lieu, description)
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() n'est que STABLE : on l'enveloppe dans une fonction IMMUTABLE
+-- pour pouvoir l'utiliser dans une colonne générée et dans un index.
+CREATE OR REPLACE FUNCTION eventy_unaccent(text)
+    RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- Vecteur maintenu par PostgreSQL à chaque INSERT/UPDATE :
+-- config 'french' pour la racinisation, 'simple' pour les noms propres (artistes, salles)
+ALTER TABLE event ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('french'::regconfig, eventy_unaccent(coalesce(name, ''))), 'A') ||
+        setweight(to_tsvector('simple'::regconfig, eventy_unaccent(coalesce(name, ''))), 'A') ||
+        setweight(to_tsvector('simple'::regconfig, eventy_unaccent(coalesce(location, ''))), 'B') ||
+        setweight(to_tsvector('french'::regconfig, eventy_unaccent(coalesce(description, ''))), 'C')
+    ) STORED;
+
+CREATE INDEX idx_event_search_vector ON event USING GIN (search_vector);
@@ -0,0 +1,8 @@
+-- Index composites pour la pagination par curseur sur (start_date, event_id)
+CREATE INDEX idx_event_start_id ON event(start_date, event_id);
+CREATE INDEX idx_event_status_start_id ON event(status, start_date, event_id);
+CREATE INDEX idx_event_creator_start_id ON event(creator_id, start_date, event_id);
+
+-- Couverts par les index composites ci-dessus (même préfixe)
+DROP INDEX IF EXISTS idx_event_status;
+DROP INDEX IF EXISTS idx_event_creator;
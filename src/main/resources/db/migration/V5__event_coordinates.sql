@@ -0,0 +1,9 @@
+-- Coordonnées géographiques (WGS84) pour la recherche par proximité
+ALTER TABLE event ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE event ADD COLUMN longitude DOUBLE PRECISION;
+
+-- Les deux coordonnées sont renseignées ensemble, dans les bornes valides
+ALTER TABLE event ADD CONSTRAINT chk_event_coordinates CHECK (
+    (latitude IS NULL AND longitude IS NULL)
+    OR (latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180)
+);
@@ -0,0 +1,5 @@
+-- Pagination par curseur des favoris d'un utilisateur sur (added_date DESC, favorite_id DESC)
+CREATE INDEX idx_favorite_user_added_id ON favorite(user_id, added_date DESC, favorite_id DESC);
+
+-- Couvert par l'index composite ci-dessus (même préfixe)
+DROP INDEX IF EXISTS idx_favorite_user;
@@ -0,0 +1,17 @@
+-- Outbox transactionnel : chaque changement d'événement ou de favori est écrit dans la même transaction
+-- que la mutation, puis relayé par lots vers les services en aval
+CREATE TABLE outbox_message (
+    id bigserial PRIMARY KEY,
+    aggregate_type varchar(20) NOT NULL,
+    aggregate_id uuid NOT NULL,
+    change_type varchar(30) NOT NULL,
+    payload text NOT NULL,
+    created_at timestamp NOT NULL DEFAULT now(),
+    delivered_at timestamp
+);
+
+-- Messages restant à relayer, dans l'ordre d'écriture
+CREATE INDEX idx_outbox_pending ON outbox_message(id) WHERE delivered_at IS NULL;
+
+-- Purge des messages relayés
+CREATE INDEX idx_outbox_delivered ON outbox_message(delivered_at) WHERE delivered_at IS NOT NULL;
@@ -0,0 +1,60 @@
+-- Synchronisation incrémentale du catalogue (GET /events/changes) : numéro de changement croissant
+-- attribué à chaque écriture d'un événement, et pierres tombales pour les suppressions
+CREATE SEQUENCE event_change_seq;
+
+ALTER TABLE event ADD COLUMN change_seq bigint;
+ALTER TABLE event ADD COLUMN updated_at timestamp;
+UPDATE event SET change_seq = nextval('event_change_seq'), updated_at = now();
+ALTER TABLE event ALTER COLUMN change_seq SET NOT NULL;
+ALTER TABLE event ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX idx_event_change_seq ON event(change_seq);
+
+CREATE TABLE event_tombstone (
+    event_id uuid PRIMARY KEY,
+    change_seq bigint NOT NULL,
+    deleted_at timestamp NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_event_tombstone_change_seq ON event_tombstone(change_seq);
+
+-- Dernier numéro dont la pierre tombale a été purgée : un jeton plus ancien impose une synchronisation complète
+CREATE TABLE event_change_horizon (
+    id int PRIMARY KEY CHECK (id = 1),
+    change_seq bigint NOT NULL
+);
+
+INSERT INTO event_change_horizon (id, change_seq) VALUES (1, 0);
+
+-- Les écritures du catalogue sont sérialisées par un verrou de transaction : les numéros sont donc attribués
+-- dans l'ordre des commits, et un client ne peut jamais dépasser un changement pas encore validé
+CREATE FUNCTION event_touch() RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('event_change_seq'));
+    NEW.change_seq := nextval('event_change_seq');
+    NEW.updated_at := now();
+    RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER trg_event_touch
+    BEFORE INSERT OR UPDATE ON event
+    FOR EACH ROW EXECUTE FUNCTION event_touch();
+
+CREATE FUNCTION event_bury() RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('event_change_seq'));
+    INSERT INTO event_tombstone (event_id, change_seq)
+    VALUES (OLD.event_id, nextval('event_change_seq'))
+    ON CONFLICT (event_id) DO UPDATE SET change_seq = EXCLUDED.change_seq, deleted_at = now();
+    RETURN OLD;
+END
+$$;
+
+CREATE TRIGGER trg_event_bury
+    AFTER DELETE ON event
+    FOR EACH ROW EXECUTE FUNCTION event_bury();
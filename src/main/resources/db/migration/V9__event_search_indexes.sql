@@ -0,0 +1,13 @@
+-- Index de la recherche multicritère (GET /events, GET /events/search) : chaque filtre fourni devient un
+-- prédicat simple sur sa colonne, le planificateur choisit l'index correspondant
+
+-- Recherches publiques : événements actifs uniquement, triés par (start_date, event_id)
+CREATE INDEX idx_event_active_start_id ON event(start_date, event_id) WHERE status = 'active';
+CREATE INDEX idx_event_active_category_start_id ON event(category_id, start_date, event_id) WHERE status = 'active';
+CREATE INDEX idx_event_active_type_start_id ON event(event_type_id, start_date, event_id) WHERE status = 'active';
+
+-- LIKE '%mot%' sur les expressions LOWER(...) générées par la recherche
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_event_active_name_trgm ON event USING GIN (LOWER(name) gin_trgm_ops) WHERE status = 'active';
+CREATE INDEX idx_event_active_description_trgm ON event USING GIN (LOWER(description) gin_trgm_ops) WHERE status = 'active';
+CREATE INDEX idx_event_active_location_trgm ON event USING GIN (LOWER(location) gin_trgm_ops) WHERE status = 'active';
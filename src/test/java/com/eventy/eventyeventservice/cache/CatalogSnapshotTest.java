@@ -0,0 +1,125 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.dto.CursorPage;
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.service.EventService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the background refresh of the pre-serialized GET /events first page
+ */
+@DisplayName("Catalog Snapshot Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class CatalogSnapshotTest {
+
+    private static final Instant START = Instant.parse("2026-06-01T12:00:00Z");
+
+    @Mock
+    private EventService eventService;
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new CatalogSnapshot(eventService, new ObjectMapper().findAndRegisterModules());
+        at(START);
+    }
+
+    @Test
+    @DisplayName("Should serve the built page and rebuild it only on a change signal")
+    void shouldRebuildOnSignal() {
+        // Arrange
+        when(eventService.getAvailableEventsPage(null, null, null, null, null, Sort.Direction.ASC))
+                .thenReturn(page("Concert", "cursor-1"), page("Festival", null));
+        assertThat(snapshot.current()).isEmpty();
+
+        // Act
+        snapshot.refresh();
+        CatalogSnapshot.Page first = snapshot.current().orElseThrow();
+        at(START.plusSeconds(5));
+        snapshot.refresh();
+        snapshot.onEventChange(EventChange.deleted(UUID.randomUUID()));
+        snapshot.refresh();
+
+        // Assert
+        assertThat(body(first)).contains("\"name\":\"Concert\"");
+        assertThat(first.nextCursor()).isEqualTo("cursor-1");
+        assertThat(body(snapshot.current().orElseThrow())).contains("\"name\":\"Festival\"");
+        verify(eventService, times(2)).getAvailableEventsPage(null, null, null, null, null, Sort.Direction.ASC);
+    }
+
+    @Test
+    @DisplayName("Should rebuild a page that reached its maximum age and report the age in seconds")
+    void shouldRebuildWhenOld() {
+        // Arrange
+        when(eventService.getAvailableEventsPage(null, null, null, null, null, Sort.Direction.ASC))
+                .thenReturn(page("Concert", null));
+        snapshot.refresh();
+
+        // Act
+        at(START.plusSeconds(12));
+        long age = snapshot.ageSeconds(snapshot.current().orElseThrow());
+        at(START.plus(Duration.ofSeconds(31)));
+        snapshot.refresh();
+
+        // Assert
+        assertThat(age).isEqualTo(12L);
+        assertThat(snapshot.ageSeconds(snapshot.current().orElseThrow())).isEqualTo(0L);
+        verify(eventService, times(2)).getAvailableEventsPage(null, null, null, null, null, Sort.Direction.ASC);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the last good page when a rebuild fails, until it is too stale")
+    void shouldKeepLastGoodPage() {
+        // Arrange
+        when(eventService.getAvailableEventsPage(null, null, null, null, null, Sort.Direction.ASC))
+                .thenReturn(page("Concert", null))
+                .thenThrow(new QueryTimeoutException("Timeout"));
+        snapshot.refresh();
+
+        // Act
+        snapshot.onEventChange(EventChange.deleted(UUID.randomUUID()));
+        at(START.plusSeconds(1));
+        snapshot.refresh();
+
+        // Assert
+        assertThat(body(snapshot.current().orElseThrow())).contains("\"name\":\"Concert\"");
+        assertThat(snapshot.stats().getFailureCount()).isEqualTo(1L);
+        at(START.plus(Duration.ofMinutes(6)));
+        assertThat(snapshot.current()).isEmpty();
+    }
+
+    private void at(Instant instant) {
+        snapshot.clock = Clock.fixed(instant, ZoneOffset.UTC);
+    }
+
+    private static CursorPage<EventResponse> page(String name, String nextCursor) {
+        return new CursorPage<>(List.of(EventResponse.builder().name(name).build()), nextCursor);
+    }
+
+    private static String body(CatalogSnapshot.Page page) {
+        return new String(page.items().json(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the per-user favorite sets and their maintenance from the change feeds
+ */
+@DisplayName("Favorite Membership Cache Unit Tests")
+class FavoriteMembershipCacheTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID concertId = UUID.randomUUID();
+
+    private FavoriteMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FavoriteMembershipCache(1_000, Duration.ofMinutes(5));
+        cache.put(userId, List.of(concertId), cache.generation());
+    }
+
+    @Test
+    @DisplayName("Should keep warm sets up to date with committed favorite changes")
+    void shouldApplyFavoriteChanges() {
+        UUID festivalId = UUID.randomUUID();
+
+        cache.onFavoriteChange(FavoriteChange.added(userId, festivalId));
+        assertThat(cache.getIfPresent(userId)).containsExactlyInAnyOrder(concertId, festivalId);
+
+        cache.onFavoriteChange(FavoriteChange.removed(userId, concertId));
+        assertThat(cache.getIfPresent(userId)).containsExactly(festivalId);
+
+        // Un utilisateur sans jeu en mémoire n'en obtient pas un partiel
+        UUID otherUser = UUID.randomUUID();
+        cache.onFavoriteChange(FavoriteChange.added(otherUser, festivalId));
+        assertThat(cache.getIfPresent(otherUser)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not cache a set loaded before a concurrent change")
+    void shouldRejectStaleLoad() {
+        UUID otherUser = UUID.randomUUID();
+        long generation = cache.generation();
+
+        cache.onFavoriteChange(FavoriteChange.added(otherUser, concertId));
+        cache.put(otherUser, List.of(), generation);
+
+        assertThat(cache.getIfPresent(otherUser)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop deleted events from every warm set")
+    void shouldForgetDeletedEvents() {
+        cache.apply(EventChange.deleted(concertId));
+
+        assertThat(cache.getIfPresent(userId)).isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.model.EventCategory;
+import com.eventy.eventyeventservice.model.EventType;
+import com.eventy.eventyeventservice.repository.EventCategoryRepository;
+import com.eventy.eventyeventservice.repository.EventTypeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the in-memory reference data snapshot
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reference Data Cache Unit Tests")
+class ReferenceDataCacheTest {
+
+    @Mock
+    private EventTypeRepository eventTypeRepository;
+    @Mock
+    private EventCategoryRepository categoryRepository;
+
+    @InjectMocks
+    private ReferenceDataCache referenceData;
+
+    @Test
+    @DisplayName("Should load the tables once and serve lookups from memory")
+    void shouldServeLookupsFromSnapshot() {
+        // Arrange
+        EventType concert = type("Concert");
+        EventCategory music = category("Musique");
+        when(eventTypeRepository.findAll()).thenReturn(List.of(concert));
+        when(categoryRepository.findAll()).thenReturn(List.of(music));
+
+        // Act
+        String typeLabel = referenceData.typeLabel(concert.getEventTypeId());
+        String categoryLabel = referenceData.categoryLabel(music.getCategoryId());
+        referenceData.findType(concert.getEventTypeId());
+
+        // Assert
+        assertThat(typeLabel).isEqualTo("Concert");
+        assertThat(categoryLabel).isEqualTo("Musique");
+        verify(eventTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reload once when an unknown ID is looked up")
+    void shouldReloadOnUnknownId() {
+        // Arrange
+        EventType concert = type("Concert");
+        EventType festival = type("Festival");
+        when(eventTypeRepository.findAll()).thenReturn(List.of(concert), List.of(concert, festival));
+        when(categoryRepository.findAll()).thenReturn(List.of());
+
+        // Act
+        EventType found = referenceData.findType(festival.getEventTypeId());
+
+        // Assert
+        assertThat(found).isSameAs(festival);
+        assertThat(referenceData.snapshot().types()).extracting(EventType::getLabel).containsExactly("Concert", "Festival");
+        verify(eventTypeRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should keep the same ETag for the same content and change it on a write")
+    void shouldDeriveETagFromContent() {
+        // Arrange
+        EventType concert = type("Concert");
+        when(eventTypeRepository.findAll()).thenReturn(List.of(concert));
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        String initial = referenceData.snapshot().typesETag();
+
+        // Act
+        String unchanged = referenceData.refresh().typesETag();
+        concert.setLabel("Concerts");
+        String changed = referenceData.refresh().typesETag();
+
+        // Assert
+        assertThat(unchanged).isEqualTo(initial);
+        assertThat(changed).isNotEqualTo(initial);
+    }
+
+    private EventType type(String label) {
+        EventType type = new EventType();
+        type.setEventTypeId(UUID.randomUUID());
+        type.setLabel(label);
+        return type;
+    }
+
+    private EventCategory category(String label) {
+        EventCategory category = new EventCategory();
+        category.setCategoryId(UUID.randomUUID());
+        category.setLabel(label);
+        return category;
+    }
+}
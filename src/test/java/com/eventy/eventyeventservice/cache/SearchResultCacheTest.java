@@ -0,0 +1,83 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the search result cache and its write-driven invalidation
+ */
+@DisplayName("Search Result Cache Unit Tests")
+class SearchResultCacheTest {
+
+    private final UUID musicId = UUID.randomUUID();
+
+    private SearchResultCache cache;
+    private SearchResultCache.Key jazzKey;
+    private SearchResultCache.Key lyonKey;
+    private UUID cachedEventId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SearchResultCache(1_000, Duration.ofMinutes(5));
+        jazzKey = SearchResultCache.Key.of(" Jazz ", null, null);
+        lyonKey = SearchResultCache.Key.of(null, "Lyon", musicId);
+        cachedEventId = UUID.randomUUID();
+        cache.put(jazzKey, new SearchResultCache.Entry(List.of(cachedEventId), null), cache.generation());
+        cache.put(lyonKey, new SearchResultCache.Entry(List.of(UUID.randomUUID()), null), cache.generation());
+    }
+
+    @Test
+    @DisplayName("Should share entries between equivalent filters")
+    void shouldNormalizeKeys() {
+        assertThat(cache.getIfPresent(SearchResultCache.Key.of("jazz", "  ", null))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should only drop entries matching the changed event")
+    void shouldInvalidateMatchingEntriesOnly() {
+        // Un nouveau concert de jazz à Paris ne concerne pas la recherche "Lyon / Musique"
+        cache.apply(EventChange.created(snapshot("Soirée Jazz", "Paris", null)));
+
+        assertThat(cache.getIfPresent(jazzKey)).isNull();
+        assertThat(cache.getIfPresent(lyonKey)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should drop entries containing a deleted event")
+    void shouldInvalidateEntriesContainingDeletedEvent() {
+        cache.apply(EventChange.deleted(cachedEventId));
+
+        assertThat(cache.getIfPresent(jazzKey)).isNull();
+        assertThat(cache.getIfPresent(lyonKey)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not cache a result loaded before a change")
+    void shouldRejectStaleResult() {
+        SearchResultCache.Key key = SearchResultCache.Key.of("rock", null, null);
+        long generation = cache.generation();
+
+        cache.apply(EventChange.created(snapshot("Festival", "Nantes", null)));
+        cache.put(key, new SearchResultCache.Entry(List.of(), null), generation);
+
+        assertThat(cache.getIfPresent(key)).isNull();
+        assertThat(cache.stats().getMissCount()).isEqualTo(1L);
+    }
+
+    private EventSnapshot snapshot(String name, String location, UUID categoryId) {
+        LocalDate start = LocalDate.now().plusDays(3);
+        return new EventSnapshot(UUID.randomUUID(), name, null, location, null, null,
+                categoryId, null, EventStatus.active, start, start);
+    }
+}
@@ -0,0 +1,109 @@
+package com.eventy.eventyeventservice.cache;
+
+import com.eventy.eventyeventservice.exception.RequestTimeoutException;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the coalescing of identical concurrent reads
+ */
+@DisplayName("Single Flight Unit Tests")
+class SingleFlightTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run one load for concurrent callers of the same key and share its result")
+    void shouldShareResult() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        Future<String> leader = executor.submit(() -> singleFlight.execute("event", WAIT, () -> {
+            loads.incrementAndGet();
+            return blockingLoad("result");
+        }));
+        loadStarted.await(5, TimeUnit.SECONDS);
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute("event", WAIT, () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        awaitShared(1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(loads.get()).isEqualTo(1);
+        // Rien n'est conservé : un appel ultérieur relance la lecture
+        assertThat(singleFlight.execute("event", WAIT, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("Should propagate the load failure to every waiting caller")
+    void shouldPropagateFailure() throws Exception {
+        Future<String> leader = executor.submit(() -> singleFlight.execute("missing", WAIT, () -> {
+            blockingLoad(null);
+            throw new EntityNotFoundException("Event not found");
+        }));
+        loadStarted.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("missing", WAIT, () -> "unused"));
+        awaitShared(1);
+        release.countDown();
+
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertThat(leaderError.getCause()).isInstanceOf(EntityNotFoundException.class);
+        assertThat(followerError.getCause()).isSameAs(leaderError.getCause());
+    }
+
+    @Test
+    @DisplayName("Should give up waiting after the timeout")
+    void shouldTimeOut() throws Exception {
+        executor.submit(() -> singleFlight.execute("slow", WAIT, () -> blockingLoad("late")));
+        loadStarted.await(5, TimeUnit.SECONDS);
+
+        assertThrows(RequestTimeoutException.class,
+                () -> singleFlight.execute("slow", Duration.ofMillis(50), () -> "unused"));
+        assertThat(singleFlight.timeoutCount()).isEqualTo(1L);
+    }
+
+    private String blockingLoad(String value) {
+        loadStarted.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    // Le second appelant est en attente du premier
+    private void awaitShared(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.sharedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.eventy.eventyeventservice.controller;
 
+import com.eventy.eventyeventservice.cache.CatalogSnapshot;
+import com.eventy.eventyeventservice.cache.PreSerializedList;
+import com.eventy.eventyeventservice.dto.CursorPage;
 import com.eventy.eventyeventservice.dto.EventRequest;
 import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.dto.EventSearchCriteria;
+import com.eventy.eventyeventservice.dto.NearbyEventResponse;
+import com.eventy.eventyeventservice.dto.SuggestionResponse;
+import com.eventy.eventyeventservice.model.EventStatus;
 import com.eventy.eventyeventservice.service.EventService;
+import com.eventy.eventyeventservice.stream.EventBroadcaster;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -16,14 +25,21 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean; // Re
 import org.springframework.security.test.context.support.WithMockUser; // Pour simuler l'auth
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf; // Pour le token CSRF
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +54,12 @@ class EventControllerTest {
     @MockitoBean
     private EventService eventService;
 
+    @MockitoBean
+    private EventBroadcaster broadcaster;
+
+    @MockitoBean
+    private CatalogSnapshot catalogSnapshot;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -46,15 +68,119 @@ class EventControllerTest {
     @WithMockUser // Simule un utilisateur connecté
     void getAllEvents_NoParams_ShouldReturnList() throws Exception {
         // Arrange
-        when(eventService.getAvailableEvents(null, null, null)).thenReturn(List.of(
-                EventResponse.builder().name("Event 1").build(),
-                EventResponse.builder().name("Event 2").build()
-        ));
+        when(eventService.getAvailableEventsPage(null, null, null, null, null, Sort.Direction.ASC))
+                .thenReturn(new CursorPage<>(List.of(
+                        EventResponse.builder().name("Event 1").build(),
+                        EventResponse.builder().name("Event 2").build()
+                ), null));
 
         // Act & Assert
         mockMvc.perform(get("/events"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("GET /events - Should serve the unfiltered first page from the snapshot with its age")
+    @WithMockUser
+    void getAllEvents_NoParams_ShouldServeSnapshot() throws Exception {
+        // Arrange
+        PreSerializedList<EventResponse> items = new PreSerializedList<>(
+                List.of(EventResponse.builder().name("Event 1").build()),
+                "[{\"name\":\"Event 1\"}]".getBytes(StandardCharsets.UTF_8));
+        CatalogSnapshot.Page page = new CatalogSnapshot.Page(items, "next", Instant.now());
+        when(catalogSnapshot.current()).thenReturn(Optional.of(page));
+        when(catalogSnapshot.ageSeconds(page)).thenReturn(3L);
+
+        // Act & Assert
+        mockMvc.perform(get("/events"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("[{\"name\":\"Event 1\"}]"))
+                .andExpect(header().string("Age", "3"))
+                .andExpect(header().string("X-Next-Cursor", "next"));
+    }
+
+    @Test
+    @DisplayName("GET /events - Should pass cursor and size and expose the next cursor")
+    @WithMockUser
+    void getAllEvents_WithCursor_ShouldReturnNextCursorHeader() throws Exception {
+        // Arrange
+        when(eventService.getAvailableEventsPage(null, null, null, "abc", 10, Sort.Direction.DESC))
+                .thenReturn(new CursorPage<>(List.of(EventResponse.builder().name("Event 11").build()), "def"));
+
+        // Act & Assert
+        mockMvc.perform(get("/events")
+                        .param("cursor", "abc")
+                        .param("size", "10")
+                        .param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Event 11"))
+                .andExpect(header().string("X-Next-Cursor", "def"));
+    }
+
+    @Test
+    @DisplayName("GET /events - Should reject an unknown sort direction with 400")
+    @WithMockUser
+    void getAllEvents_WithInvalidDirection_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/events").param("direction", "sideways"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid direction: sideways"));
+        verify(eventService, never()).getAvailableEventsPage(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /events/nearby - Should return events with their distance at the top level")
+    @WithMockUser
+    void getNearbyEvents_ShouldReturnFlattenedEventsWithDistance() throws Exception {
+        // Arrange
+        when(eventService.getNearbyEvents(48.85, 2.35, 5, 50)).thenReturn(List.of(
+                new NearbyEventResponse(EventResponse.builder().name("Concert").build(), 1.25)));
+
+        // Act & Assert
+        mockMvc.perform(get("/events/nearby")
+                        .param("lat", "48.85")
+                        .param("lon", "2.35")
+                        .param("radiusKm", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Concert"))
+                .andExpect(jsonPath("$[0].distanceKm").value(1.25));
+    }
+
+    @Test
+    @DisplayName("GET /events/suggest - Should return name and location suggestions")
+    @WithMockUser
+    void suggest_ShouldReturnSuggestions() throws Exception {
+        // Arrange
+        when(eventService.suggest("conc", 5)).thenReturn(SuggestionResponse.builder()
+                .events(List.of(new SuggestionResponse.EventSuggestion(UUID.randomUUID(), "Concert", "Paris", null)))
+                .locations(List.of(new SuggestionResponse.LocationSuggestion("Concarneau", 3)))
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/events/suggest").param("prefix", "conc").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].name").value("Concert"))
+                .andExpect(jsonPath("$.locations[0].location").value("Concarneau"))
+                .andExpect(jsonPath("$.locations[0].eventCount").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /events - Should search the corrected keyword and expose it when fuzzy")
+    @WithMockUser
+    void getAllEvents_Fuzzy_ShouldSearchCorrectedKeyword() throws Exception {
+        // Arrange
+        when(eventService.correctKeyword("concrt")).thenReturn("concert");
+        when(eventService.getAvailableEventsPage("concert", null, null, null, null, Sort.Direction.ASC))
+                .thenReturn(new CursorPage<>(List.of(EventResponse.builder().name("Concert").build()), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/events").param("search", "concrt").param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Concert"))
+                .andExpect(header().string("X-Search-Corrected", "concert"));
     }
 
     @Test
@@ -66,8 +192,8 @@ class EventControllerTest {
         String location = "Paris";
         UUID catId = UUID.randomUUID();
 
-        when(eventService.getAvailableEvents(eq(search), eq(location), eq(catId)))
-                .thenReturn(List.of(EventResponse.builder().name("Jazz Event").build()));
+        when(eventService.getAvailableEventsPage(eq(search), eq(location), eq(catId), isNull(), isNull(), eq(Sort.Direction.ASC)))
+                .thenReturn(new CursorPage<>(List.of(EventResponse.builder().name("Jazz Event").build()), null));
 
         // Act & Assert
         mockMvc.perform(get("/events")
@@ -78,6 +204,38 @@ class EventControllerTest {
                 .andExpect(jsonPath("$[0].name").value("Jazz Event"));
     }
 
+    @Test
+    @DisplayName("GET /events/search - Should pass every supplied criterion to service")
+    @WithMockUser
+    void searchEvents_WithCriteria_ShouldPassCriteria() throws Exception {
+        // Arrange
+        UUID musicId = UUID.randomUUID();
+        UUID theaterId = UUID.randomUUID();
+        UUID typeId = UUID.randomUUID();
+        EventSearchCriteria criteria = EventSearchCriteria.builder()
+                .categoryIds(Set.of(musicId, theaterId))
+                .eventTypeId(typeId)
+                .status(EventStatus.active)
+                .startFrom(LocalDate.of(2026, 7, 1))
+                .startTo(LocalDate.of(2026, 7, 31))
+                .build();
+
+        when(eventService.searchEvents(criteria, null, 20, Sort.Direction.DESC))
+                .thenReturn(new CursorPage<>(List.of(EventResponse.builder().name("Summer Festival").build()), "next"));
+
+        // Act & Assert
+        mockMvc.perform(get("/events/search")
+                        .param("categoryId", musicId.toString(), theaterId.toString())
+                        .param("typeId", typeId.toString())
+                        .param("from", "2026-07-01")
+                        .param("to", "2026-07-31")
+                        .param("size", "20")
+                        .param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Summer Festival"))
+                .andExpect(header().string("X-Next-Cursor", "next"));
+    }
+
     @Test
     @DisplayName("POST /events - Should create event (Admin Role)")
     @WithMockUser(roles = "ADMIN") // Rôle ADMIN requis
@@ -134,4 +292,17 @@ class EventControllerTest {
                         .with(csrf())) // AJOUT : Token CSRF requis
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    @DisplayName("GET /events/stream - Should answer 503 with Retry-After when too many clients are connected")
+    @WithMockUser
+    void streamChanges_ShouldRejectWhenFull() throws Exception {
+        UUID categoryId = UUID.randomUUID();
+        when(broadcaster.subscribe(List.of(), categoryId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/events/stream").param("categoryId", categoryId.toString())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+    }
 }
\ No newline at end of file
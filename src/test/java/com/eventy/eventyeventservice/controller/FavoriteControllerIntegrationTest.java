@@ -113,6 +113,24 @@ class FavoriteControllerIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("POST /favorites/user/{userId}/contains - Should flag favorited events")
+    void shouldFlagFavoritedEvents() throws Exception {
+        UUID userId = UUID.randomUUID();
+        Event event2 = createEvent("Event not Fav");
+        createFavorite(userId, event1);
+        String json = String.format("[\"%s\", \"%s\"]", event1.getEventId(), event2.getEventId());
+
+        mockMvc.perform(post("/favorites/user/{userId}/contains", userId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + event1.getEventId() + "']").value(true))
+                .andExpect(jsonPath("$['" + event2.getEventId() + "']").value(false));
+    }
+
     private Event createEvent(String name) {
         Event event = new Event();
         event.setName(name);
@@ -0,0 +1,110 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the interval tree of the calendar views
+ */
+@DisplayName("Event Calendar Index Unit Tests")
+class EventCalendarIndexTest {
+
+    private static final LocalDate JULY_1 = LocalDate.of(2026, 7, 1);
+
+    private final UUID music = UUID.randomUUID();
+    private EventCalendarIndex index;
+    private EventSnapshot festival;
+    private EventSnapshot concert;
+    private EventSnapshot exhibition;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventCalendarIndex();
+        festival = snapshot(music, EventStatus.active, JULY_1.minusDays(2), JULY_1.plusDays(1));
+        concert = snapshot(music, EventStatus.active, JULY_1.plusDays(2), JULY_1.plusDays(2));
+        exhibition = snapshot(UUID.randomUUID(), EventStatus.active, JULY_1.minusDays(30), JULY_1.plusDays(60));
+        EventSnapshot before = snapshot(music, EventStatus.active, JULY_1.minusDays(10), JULY_1.minusDays(1));
+        EventSnapshot after = snapshot(music, EventStatus.active, JULY_1.plusDays(7), JULY_1.plusDays(8));
+        EventSnapshot canceled = snapshot(music, EventStatus.canceled, JULY_1, JULY_1);
+        index.rebuild(List.of(concert, before, festival, after, exhibition, canceled));
+    }
+
+    @Test
+    @DisplayName("Should return the active events overlapping the window, soonest first, with per-day counts")
+    void shouldReturnOverlappingEvents() {
+        EventCalendarIndex.Window window = index.window(JULY_1, JULY_1.plusDays(6), null, 10);
+
+        assertThat(window.eventIds()).containsExactly(exhibition.eventId(), festival.eventId(), concert.eventId());
+        assertThat(window.total()).isEqualTo(3);
+        assertThat(window.dayCounts()).containsExactly(2, 2, 2, 1, 1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Should filter by category and count every match beyond the limit")
+    void shouldFilterAndLimit() {
+        EventCalendarIndex.Window window = index.window(JULY_1, JULY_1.plusDays(6), music, 1);
+
+        assertThat(window.eventIds()).containsExactly(festival.eventId());
+        assertThat(window.total()).isEqualTo(2);
+        assertThat(window.dayCounts()).containsExactly(1, 1, 1, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Should move, add and remove events on changes")
+    void shouldApplyChanges() {
+        EventSnapshot moved = concert.withDates(JULY_1.plusDays(20), JULY_1.plusDays(20));
+        EventSnapshot added = snapshot(music, EventStatus.active, JULY_1.plusDays(3), JULY_1.plusDays(4));
+
+        index.apply(EventChange.updated(concert, moved));
+        index.apply(EventChange.created(added));
+        index.apply(EventChange.deleted(exhibition.eventId()));
+
+        assertThat(index.window(JULY_1, JULY_1.plusDays(6), null, 10).eventIds())
+                .containsExactly(festival.eventId(), added.eventId());
+        assertThat(index.window(JULY_1.plusDays(20), JULY_1.plusDays(20), null, 10).eventIds())
+                .containsExactly(moved.eventId());
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan on random periods")
+    void shouldMatchLinearScan() {
+        Random random = new Random(42);
+        List<EventSnapshot> events = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate start = JULY_1.plusDays(random.nextInt(365));
+            int days = random.nextInt(random.nextBoolean() ? 3 : 90);
+            events.add(snapshot(music, EventStatus.active, start, start.plusDays(days)));
+        }
+        index.rebuild(events);
+
+        for (int query = 0; query < 200; query++) {
+            LocalDate from = JULY_1.plusDays(random.nextInt(400) - 20);
+            LocalDate to = from.plusDays(random.nextInt(31));
+            List<UUID> expected = events.stream()
+                    .filter(event -> !event.startDate().isAfter(to) && !event.endDate().isBefore(from))
+                    .sorted(Comparator.comparing(EventSnapshot::startDate).thenComparing(EventSnapshot::eventId))
+                    .map(EventSnapshot::eventId)
+                    .toList();
+
+            assertThat(index.window(from, to, null, Integer.MAX_VALUE).eventIds()).isEqualTo(expected);
+        }
+    }
+
+    private static EventSnapshot snapshot(UUID categoryId, EventStatus status, LocalDate start, LocalDate end) {
+        return new EventSnapshot(UUID.randomUUID(), "Event", null, "Paris", null, null,
+                categoryId, null, status, start, end);
+    }
+}
@@ -0,0 +1,83 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the incrementally maintained facet counts
+ */
+@DisplayName("Event Facet Index Unit Tests")
+class EventFacetIndexTest {
+
+    private final UUID musicId = UUID.randomUUID();
+    private final UUID sportId = UUID.randomUUID();
+
+    private EventFacetIndex index;
+    private EventSnapshot concert;
+    private EventSnapshot match;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventFacetIndex();
+        concert = snapshot("Paris", musicId, EventStatus.active);
+        match = snapshot("paris ", sportId, EventStatus.active);
+        EventSnapshot canceled = snapshot("Lyon", musicId, EventStatus.canceled);
+        index.rebuild(List.of(concert, match, canceled));
+    }
+
+    @Test
+    @DisplayName("Should count every dimension, per status or over the whole catalog")
+    void shouldCountByDimension() {
+        EventFacetIndex.FacetCounts all = index.counts((EventStatus) null);
+        assertThat(all.total()).isEqualTo(3L);
+        assertThat(all.categories()).isEqualTo(Map.of(musicId, 2L, sportId, 1L));
+        assertThat(all.locations()).isEqualTo(Map.of("Paris", 2L, "Lyon", 1L));
+        assertThat(all.statuses()).isEqualTo(Map.of(EventStatus.active, 2L, EventStatus.canceled, 1L));
+
+        EventFacetIndex.FacetCounts active = index.counts(EventStatus.active);
+        assertThat(active.total()).isEqualTo(2L);
+        assertThat(active.categories()).isEqualTo(Map.of(musicId, 1L, sportId, 1L));
+    }
+
+    @Test
+    @DisplayName("Should move counts when an event changes and ignore repeated changes")
+    void shouldApplyChangesIdempotently() {
+        EventSnapshot canceledConcert = new EventSnapshot(concert.eventId(), concert.name(), null, "Lyon",
+                null, null, musicId, null, EventStatus.canceled, concert.startDate(), concert.endDate());
+        EventChange change = EventChange.statusChanged(concert, canceledConcert);
+        index.apply(change);
+        index.apply(change);
+        index.apply(EventChange.deleted(match.eventId()));
+
+        EventFacetIndex.FacetCounts active = index.counts(EventStatus.active);
+        assertThat(active.total()).isEqualTo(0L);
+        assertThat(active.locations()).isEqualTo(Map.of());
+        assertThat(index.counts((EventStatus) null).locations()).isEqualTo(Map.of("Lyon", 2L));
+    }
+
+    @Test
+    @DisplayName("Should count a given set of events")
+    void shouldCountGivenEvents() {
+        EventFacetIndex.FacetCounts counts = index.counts(List.of(concert.eventId(), UUID.randomUUID()), null);
+
+        assertThat(counts.total()).isEqualTo(1L);
+        assertThat(counts.categories()).isEqualTo(Map.of(musicId, 1L));
+    }
+
+    private EventSnapshot snapshot(String location, UUID categoryId, EventStatus status) {
+        LocalDate start = LocalDate.now().plusDays(7);
+        return new EventSnapshot(UUID.randomUUID(), "Event", null, location, null, null,
+                categoryId, null, status, start, start);
+    }
+}
@@ -0,0 +1,80 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the in-memory geographic grid
+ */
+@DisplayName("Event Geo Index Unit Tests")
+class EventGeoIndexTest {
+
+    private EventGeoIndex index;
+    private EventSnapshot notreDame;
+    private EventSnapshot versailles;
+    private EventSnapshot lyon;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventGeoIndex();
+        notreDame = snapshot(48.8530, 2.3499, EventStatus.active, 5);
+        versailles = snapshot(48.8049, 2.1204, EventStatus.active, 2);
+        lyon = snapshot(45.7640, 4.8357, EventStatus.active, 1);
+        EventSnapshot past = snapshot(48.8566, 2.3522, EventStatus.active, -5);
+        EventSnapshot canceled = snapshot(48.8566, 2.3522, EventStatus.canceled, 5);
+        index.rebuild(List.of(notreDame, versailles, lyon, past, canceled));
+    }
+
+    @Test
+    @DisplayName("Should return events within the radius, nearest first")
+    void shouldReturnNearbyEventsByDistance() {
+        List<EventGeoIndex.Hit> hits = index.nearby(48.8566, 2.3522, 25, 10);
+
+        assertThat(hits).extracting(EventGeoIndex.Hit::eventId)
+                .containsExactly(notreDame.eventId(), versailles.eventId());
+        assertThat(hits.get(0).distanceKm() < 1).isTrue();
+        assertThat(index.nearby(48.8566, 2.3522, 500, 10)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should return events inside a bounding box, soonest first, and follow changes")
+    void shouldReturnEventsWithinBoxAndApplyChanges() {
+        assertThat(index.within(45, 2, 49, 5, 10))
+                .containsExactly(lyon.eventId(), versailles.eventId(), notreDame.eventId());
+        assertThat(index.within(48.8, 2.3, 48.9, 2.4, 10)).containsExactly(notreDame.eventId());
+
+        index.apply(EventChange.deleted(notreDame.eventId()));
+
+        assertThat(index.within(48.8, 2.3, 48.9, 2.4, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should handle boxes crossing the antimeridian")
+    void shouldHandleAntimeridian() {
+        EventSnapshot fiji = snapshot(-17.7134, 178.0650, EventStatus.active, 3);
+        EventSnapshot samoa = snapshot(-13.7590, -172.1046, EventStatus.active, 4);
+        index.apply(EventChange.created(fiji));
+        index.apply(EventChange.created(samoa));
+
+        assertThat(index.within(-20, 170, -10, -170, 10)).containsExactly(fiji.eventId(), samoa.eventId());
+        assertThat(index.nearby(-17.7, 179.9, 1000, 10)).extracting(EventGeoIndex.Hit::eventId)
+                .containsExactly(fiji.eventId(), samoa.eventId());
+    }
+
+    private EventSnapshot snapshot(double latitude, double longitude, EventStatus status, int startInDays) {
+        LocalDate start = LocalDate.now().plusDays(startInDays);
+        return new EventSnapshot(UUID.randomUUID(), "Event", null, null, latitude, longitude,
+                null, null, status, start, start);
+    }
+}
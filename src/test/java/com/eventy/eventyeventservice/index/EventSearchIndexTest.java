@@ -0,0 +1,107 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the in-memory inverted index
+ */
+@DisplayName("Event Search Index Unit Tests")
+class EventSearchIndexTest {
+
+    private final UUID musicId = UUID.randomUUID();
+    private final UUID sportId = UUID.randomUUID();
+
+    private EventSearchIndex index;
+    private EventSnapshot christmasConcert;
+    private EventSnapshot football;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex();
+        christmasConcert = snapshot("Grand Concert de Noël", "Philharmonie", "Paris", musicId, EventStatus.active, 10);
+        football = snapshot("Match PSG - OM", "Classique du championnat", "Paris", sportId, EventStatus.active, 5);
+        index.rebuild(List.of(christmasConcert, football));
+    }
+
+    @Test
+    @DisplayName("Should match accent-folded prefixes of every token")
+    void shouldMatchFoldedPrefixes() {
+        assertThat(index.search("noel", null, null, true)).containsExactly(christmasConcert.eventId());
+        assertThat(index.search("CONC no", null, null, true)).containsExactly(christmasConcert.eventId());
+        assertThat(index.search("concert psg", null, null, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return every event ordered by start date when no keyword is given")
+    void shouldReturnAllEventsOrderedByStartDate() {
+        assertThat(index.search(null, "paris", null, true))
+                .containsExactly(football.eventId(), christmasConcert.eventId());
+    }
+
+    @Test
+    @DisplayName("Should page the matches after a position in start date, then ID order")
+    void shouldPageAfterPosition() {
+        EventSnapshot sameDay = snapshot("Concert de Noël", null, "Paris", musicId, EventStatus.active, 10);
+        index.apply(EventChange.created(sameDay));
+        List<UUID> sameDayIds = List.of(christmasConcert.eventId(), sameDay.eventId()).stream().sorted().toList();
+
+        List<EventSearchIndex.Hit> first = index.page("concert", null, null, null, 1);
+        List<EventSearchIndex.Hit> second = index.page("concert", null, null, first.get(0), 2);
+
+        assertThat(first).extracting(EventSearchIndex.Hit::eventId).containsExactly(sameDayIds.get(0));
+        assertThat(first.get(0).startDate()).isEqualTo(christmasConcert.startDate());
+        assertThat(second).extracting(EventSearchIndex.Hit::eventId).containsExactly(sameDayIds.get(1));
+    }
+
+    @Test
+    @DisplayName("Should filter by category and status")
+    void shouldFilterByCategoryAndStatus() {
+        assertThat(index.search(null, null, sportId, true)).containsExactly(football.eventId());
+
+        EventSnapshot canceled = snapshot(football.name(), football.description(), "Paris", sportId, EventStatus.canceled, 5);
+        index.apply(EventChange.statusChanged(football, withId(canceled, football.eventId())));
+
+        assertThat(index.search("psg", null, null, true)).isEmpty();
+        assertThat(index.search("psg", null, null, false)).containsExactly(football.eventId());
+    }
+
+    @Test
+    @DisplayName("Should replace the terms of an updated event and drop deleted events")
+    void shouldApplyUpdatesAndDeletes() {
+        EventSnapshot renamed = withId(snapshot("Concert du Nouvel An", "Orchestre", "Lyon", musicId, EventStatus.active, 10),
+                christmasConcert.eventId());
+        index.apply(EventChange.updated(christmasConcert, renamed));
+        index.apply(EventChange.updated(christmasConcert, renamed)); // rejoué : sans effet
+
+        assertThat(index.search("noel", null, null, true)).isEmpty();
+        assertThat(index.search("nouvel", "lyon", null, true)).containsExactly(christmasConcert.eventId());
+        assertThat(index.size()).isEqualTo(2);
+
+        index.apply(EventChange.deleted(football.eventId()));
+        assertThat(index.search("match", null, null, false)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private EventSnapshot snapshot(String name, String description, String location,
+                                   UUID categoryId, EventStatus status, int daysFromNow) {
+        LocalDate start = LocalDate.now().plusDays(daysFromNow);
+        return new EventSnapshot(UUID.randomUUID(), name, description, location, null, null, categoryId, null,
+                status, start, start.plusDays(1));
+    }
+
+    private EventSnapshot withId(EventSnapshot s, UUID id) {
+        return new EventSnapshot(id, s.name(), s.description(), s.location(), s.latitude(), s.longitude(),
+                s.categoryId(), s.eventTypeId(), s.status(), s.startDate(), s.endDate());
+    }
+}
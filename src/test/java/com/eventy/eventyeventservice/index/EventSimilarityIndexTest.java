@@ -0,0 +1,99 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.model.EventStatus;
+import com.eventy.eventyeventservice.repository.FavoritePair;
+import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the co-favorite similarity model and its incremental refresh
+ */
+@DisplayName("Event Similarity Index Unit Tests")
+class EventSimilarityIndexTest {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    private EventSnapshot concert;
+    private EventSnapshot festival;
+    private EventSnapshot opera;
+    private EventSnapshot ballet;
+    private EventSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        concert = snapshot(EventStatus.active);
+        festival = snapshot(EventStatus.active);
+        opera = snapshot(EventStatus.active);
+        ballet = snapshot(EventStatus.active);
+
+        FavoriteRepository favoriteRepository = mock(FavoriteRepository.class);
+        when(favoriteRepository.streamAllPairs()).thenReturn(Stream.of(
+                new FavoritePair(alice, concert.eventId()), new FavoritePair(alice, festival.eventId()),
+                new FavoritePair(bob, concert.eventId()), new FavoritePair(bob, festival.eventId()),
+                new FavoritePair(bob, opera.eventId()),
+                new FavoritePair(carol, opera.eventId()), new FavoritePair(carol, ballet.eventId())));
+
+        index = new EventSimilarityIndex(favoriteRepository, mock(PlatformTransactionManager.class));
+        index.rebuild(List.of(concert, festival, opera, ballet));
+        index.refreshAll();
+    }
+
+    @Test
+    @DisplayName("Should rank similar events by co-favorite cosine")
+    void shouldRankByCosine() {
+        List<EventSimilarityIndex.Hit> hits = index.similar(concert.eventId(), 10);
+
+        assertThat(hits).extracting(EventSimilarityIndex.Hit::eventId)
+                .containsExactly(festival.eventId(), opera.eventId());
+        assertThat(Math.abs(hits.get(0).score() - 1.0) < 1e-6).isTrue();
+        assertThat(Math.abs(hits.get(1).score() - 0.5) < 1e-6).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should recommend events similar to the favorites, favorites excluded")
+    void shouldRecommendFromFavorites() {
+        List<EventSimilarityIndex.Hit> hits = index.recommend(List.of(opera.eventId(), ballet.eventId()), 10);
+
+        assertThat(hits).extracting(EventSimilarityIndex.Hit::eventId)
+                .containsExactlyInAnyOrder(concert.eventId(), festival.eventId());
+    }
+
+    @Test
+    @DisplayName("Should apply favorite changes incrementally and skip events no longer active")
+    void shouldRefreshIncrementally() {
+        index.onFavoriteChange(FavoriteChange.added(carol, concert.eventId()));
+        assertThat(index.similar(concert.eventId(), 10)).extracting(EventSimilarityIndex.Hit::eventId)
+                .doesNotContain(ballet.eventId());
+
+        index.refreshChanged();
+        index.apply(EventChange.statusChanged(festival, festival.withStatus(EventStatus.canceled)));
+
+        assertThat(index.similar(concert.eventId(), 10)).extracting(EventSimilarityIndex.Hit::eventId)
+                .containsExactly(opera.eventId(), ballet.eventId());
+        assertThat(index.similar(ballet.eventId(), 10)).extracting(EventSimilarityIndex.Hit::eventId)
+                .contains(concert.eventId());
+    }
+
+    private static EventSnapshot snapshot(EventStatus status) {
+        LocalDate start = LocalDate.now().plusDays(7);
+        return new EventSnapshot(UUID.randomUUID(), "Event", null, "Paris", null, null,
+                UUID.randomUUID(), null, status, start, start);
+    }
+}
@@ -0,0 +1,89 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the autocomplete index
+ */
+@DisplayName("Event Suggest Index Unit Tests")
+class EventSuggestIndexTest {
+
+    private EventSuggestIndex index;
+    private EventSnapshot christmasConcert;
+    private EventSnapshot rockConcert;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSuggestIndex();
+        christmasConcert = snapshot("Grand Concert de Noël", "Paris", EventStatus.active, 10);
+        rockConcert = snapshot("Concert Rock", "Paris", EventStatus.active, 3);
+        EventSnapshot past = snapshot("Concert passé", "Lyon", EventStatus.active, -3);
+        EventSnapshot cancelled = snapshot("Concert annulé", "Lyon", EventStatus.canceled, 5);
+        index.rebuild(List.of(christmasConcert, rockConcert, past, cancelled));
+    }
+
+    @Test
+    @DisplayName("Should suggest upcoming active events by any word of their name, soonest first")
+    void shouldSuggestNamesBySoonestStart() {
+        assertThat(index.suggestNames("conc", 10))
+                .extracting(EventSuggestIndex.NameSuggestion::eventId)
+                .containsExactly(rockConcert.eventId(), christmasConcert.eventId());
+        assertThat(index.suggestNames("NOEL", 10))
+                .extracting(EventSuggestIndex.NameSuggestion::name)
+                .containsExactly("Grand Concert de Noël");
+    }
+
+    @Test
+    @DisplayName("Should rank locations by number of events and follow changes")
+    void shouldRankLocationsAndApplyChanges() {
+        index.apply(EventChange.created(snapshot("Festival", "Parisot", EventStatus.active, 1)));
+        assertThat(index.suggestLocations("par", 10))
+                .containsExactly(new EventSuggestIndex.LocationSuggestion("Paris", 2),
+                        new EventSuggestIndex.LocationSuggestion("Parisot", 1));
+
+        index.apply(EventChange.deleted(rockConcert.eventId()));
+        index.apply(EventChange.deleted(christmasConcert.eventId()));
+
+        assertThat(index.suggestNames("concert", 10)).isEmpty();
+        assertThat(index.suggestLocations("par", 10))
+                .containsExactly(new EventSuggestIndex.LocationSuggestion("Parisot", 1));
+    }
+
+    @Test
+    @DisplayName("Should drop events ended since the rebuild without shortening the suggestions")
+    void shouldSkipEndedEvents() {
+        List<EventSnapshot> events = new ArrayList<>();
+        for (int i = 0; i < EventSuggestIndex.MAX_SUGGESTIONS + 5; i++) {
+            events.add(snapshot("Concert du jour " + i, "Lyon", EventStatus.active, 0));
+        }
+        events.add(rockConcert);
+        events.add(christmasConcert);
+        index.rebuild(events);
+
+        index.clock = Clock.offset(Clock.systemDefaultZone(), Duration.ofDays(1));
+
+        assertThat(index.suggestNames("conc", 2))
+                .extracting(EventSuggestIndex.NameSuggestion::eventId)
+                .containsExactly(rockConcert.eventId(), christmasConcert.eventId());
+        assertThat(index.suggestLocations("lyon", 10)).isEmpty();
+    }
+
+    private EventSnapshot snapshot(String name, String location, EventStatus status, int startInDays) {
+        LocalDate start = LocalDate.now().plusDays(startInDays);
+        return new EventSnapshot(UUID.randomUUID(), name, null, location, null, null, null, null, status, start, start);
+    }
+}
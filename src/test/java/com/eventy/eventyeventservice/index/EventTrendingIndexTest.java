@@ -0,0 +1,107 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.model.EventStatus;
+import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the time-decayed trending ranking
+ */
+@DisplayName("Event Trending Index Unit Tests")
+class EventTrendingIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+
+    private final UUID music = UUID.randomUUID();
+    private final UUID sport = UUID.randomUUID();
+
+    private EventTrendingIndex index;
+    private EventSnapshot concert;
+    private EventSnapshot festival;
+    private EventSnapshot opera;
+    private EventSnapshot match;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventTrendingIndex(mock(FavoriteRepository.class), Duration.ofHours(24), 2);
+        index.clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        concert = snapshot(music, EventStatus.active, 3);
+        festival = snapshot(music, EventStatus.active, 10);
+        opera = snapshot(music, EventStatus.active, 20);
+        match = snapshot(sport, EventStatus.active, 1);
+        EventSnapshot past = snapshot(music, EventStatus.active, -3);
+        index.rebuild(List.of(concert, festival, opera, match, past));
+    }
+
+    @Test
+    @DisplayName("Should rank by decayed score: recent views outweigh an old favorite")
+    void shouldDecayOlderSignals() {
+        index.onFavoriteChange(FavoriteChange.added(UUID.randomUUID(), concert.eventId()));
+
+        // Deux demi-vies plus tard, le favori (poids 5) ne vaut plus que 1.25
+        index.clock = Clock.fixed(NOW.plus(Duration.ofHours(48)), ZoneOffset.UTC);
+        index.recordView(festival.eventId());
+        index.recordView(festival.eventId());
+
+        List<EventTrendingIndex.Hit> hits = index.trending(music, 10);
+
+        assertThat(hits).extracting(EventTrendingIndex.Hit::eventId)
+                .containsExactly(festival.eventId(), concert.eventId());
+        assertThat(Math.abs(hits.get(1).score() - 1.25) < 1e-9).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep a bounded top-K per category and for the whole catalog")
+    void shouldBoundRankings() {
+        index.recordView(concert.eventId());
+        index.recordView(festival.eventId());
+        index.recordView(festival.eventId());
+        index.recordView(opera.eventId());
+        index.recordView(opera.eventId());
+        index.recordView(opera.eventId());
+        index.recordView(match.eventId());
+
+        assertThat(index.trending(music, 10)).extracting(EventTrendingIndex.Hit::eventId)
+                .containsExactly(opera.eventId(), festival.eventId());
+        assertThat(index.trending(sport, 10)).extracting(EventTrendingIndex.Hit::eventId)
+                .containsExactly(match.eventId());
+        assertThat(index.trending(null, 1)).extracting(EventTrendingIndex.Hit::eventId)
+                .containsExactly(opera.eventId());
+    }
+
+    @Test
+    @DisplayName("Should drop events that are no longer active and ignore signals on them")
+    void shouldFollowEventChanges() {
+        index.recordView(concert.eventId());
+        index.recordView(match.eventId());
+
+        index.apply(EventChange.statusChanged(concert, concert.withStatus(EventStatus.canceled)));
+        index.recordView(concert.eventId());
+        index.apply(EventChange.deleted(match.eventId()));
+
+        assertThat(index.trending(music, 10)).isEmpty();
+        assertThat(index.trending(null, 10)).isEmpty();
+    }
+
+    private static EventSnapshot snapshot(UUID categoryId, EventStatus status, int daysFromNow) {
+        LocalDate start = LocalDate.ofInstant(NOW, ZoneOffset.UTC).plusDays(daysFromNow);
+        return new EventSnapshot(UUID.randomUUID(), "Event", null, "Paris", null, null,
+                categoryId, null, status, start, start);
+    }
+}
@@ -0,0 +1,69 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the BK-tree and the typo-tolerant vocabulary
+ */
+@DisplayName("Event Vocabulary Index Unit Tests")
+class EventVocabularyIndexTest {
+
+    private EventVocabularyIndex index;
+    private EventSnapshot concert;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventVocabularyIndex();
+        concert = snapshot("Concert à la Philharmonie", "Paris");
+        index.rebuild(List.of(concert, snapshot("Concerto pour piano", "Paris"), snapshot("Fête de la musique", "Lyon")));
+    }
+
+    @Test
+    @DisplayName("Should compute the Levenshtein distance and find close terms")
+    void shouldFindCloseTerms() {
+        BkTree tree = new BkTree();
+        List.of("concert", "concerto", "conte", "philharmonie").forEach(tree::add);
+
+        assertThat(BkTree.distance("concrt", "concert")).isEqualTo(1);
+        assertThat(BkTree.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(tree.search("concrt", 2)).extracting(BkTree.Match::term)
+                .containsExactlyInAnyOrder("concert", "concerto");
+        assertThat(tree.add("conte")).isFalse();
+        assertThat(tree.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should correct misspelled words and keep known or short ones")
+    void shouldCorrectMisspelledWords() {
+        assertThat(index.correct("concrt Philarmonie")).isEqualTo("concert philharmonie");
+        assertThat(index.correct("fete musiqe")).isEqualTo("fete musique");
+        assertThat(index.correct("Concert à Paris")).isEqualTo("Concert à Paris");
+        assertThat(index.correct("xyzzyx")).isEqualTo("xyzzyx");
+    }
+
+    @Test
+    @DisplayName("Should stop suggesting words that are no longer used")
+    void shouldForgetRemovedWords() {
+        index.apply(EventChange.deleted(concert.eventId()));
+
+        assertThat(index.correct("Philarmonie")).isEqualTo("Philarmonie");
+        assertThat(index.correct("concrt")).isEqualTo("concerto");
+    }
+
+    private EventSnapshot snapshot(String name, String location) {
+        LocalDate start = LocalDate.now().plusDays(3);
+        return new EventSnapshot(UUID.randomUUID(), name, null, location, null, null,
+                null, null, EventStatus.active, start, start);
+    }
+}
@@ -0,0 +1,82 @@
+package com.eventy.eventyeventservice.index;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import com.eventy.eventyeventservice.repository.FavoritePair;
+import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the favorite bitmaps: load, maintenance from the change feeds, counts and membership
+ */
+@DisplayName("Favorite Bitmap Index Unit Tests")
+class FavoriteBitmapIndexTest {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID concertId = UUID.randomUUID();
+    private final UUID festivalId = UUID.randomUUID();
+
+    private FavoriteRepository favoriteRepository;
+    private FavoriteBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        favoriteRepository = mock(FavoriteRepository.class);
+        index = new FavoriteBitmapIndex(favoriteRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database until the favorites are loaded")
+    void shouldNotAnswerBeforeLoad() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.count(concertId)).isNull();
+        assertThat(index.favoritedAmong(alice, List.of(concertId))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count favorites and answer membership from the loaded bitmaps")
+    void shouldAnswerFromBitmaps() {
+        load(new FavoritePair(alice, concertId), new FavoritePair(bob, concertId), new FavoritePair(bob, festivalId));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.count(concertId)).isEqualTo(2L);
+        assertThat(index.count(UUID.randomUUID())).isEqualTo(0L);
+        assertThat(index.favoritedAmong(alice, List.of(concertId, festivalId))).containsExactly(concertId);
+        assertThat(index.favoritedAmong(UUID.randomUUID(), List.of(concertId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the bitmaps up to date with committed favorite and event changes")
+    void shouldApplyChanges() {
+        load(new FavoritePair(alice, concertId));
+
+        index.onFavoriteChange(FavoriteChange.added(bob, festivalId));
+        index.onFavoriteChange(FavoriteChange.added(bob, concertId));
+        index.onFavoriteChange(FavoriteChange.removed(alice, concertId));
+
+        assertThat(index.count(concertId)).isEqualTo(1L);
+        assertThat(index.favoritedAmong(bob, Set.of(concertId, festivalId))).containsExactlyInAnyOrder(concertId, festivalId);
+
+        index.apply(EventChange.deleted(festivalId));
+        assertThat(index.count(festivalId)).isEqualTo(0L);
+        assertThat(index.stats().getFavorites()).isEqualTo(1L);
+    }
+
+    private void load(FavoritePair... pairs) {
+        when(favoriteRepository.streamAllPairs()).thenReturn(Stream.of(pairs));
+        index.rebuild(List.of());
+    }
+}
@@ -0,0 +1,60 @@
+package com.eventy.eventyeventservice.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the prefix trie and its cached top-K
+ */
+@DisplayName("Prefix Trie Unit Tests")
+class PrefixTrieTest {
+
+    private PrefixTrie<Integer> trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie<>(Comparator.naturalOrder(), 3);
+        trie.put("concert", 5);
+        trie.put("conference", 2);
+        trie.put("congres", 9);
+        trie.put("conte", 7);
+        trie.put("danse", 1);
+    }
+
+    @Test
+    @DisplayName("Should return the best values under a prefix, capped to the cache size")
+    void shouldReturnBestValuesUnderPrefix() {
+        assertThat(trie.top("con", 10)).containsExactly(2, 5, 7);
+        assertThat(trie.top("con", 2)).containsExactly(2, 5);
+        assertThat(trie.top("conc", 10)).containsExactly(5);
+        assertThat(trie.top("x", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should refresh cached results after a mutation")
+    void shouldInvalidateCacheOnMutation() {
+        assertThat(trie.top("con", 3)).containsExactly(2, 5, 7);
+
+        trie.remove("conference", 2);
+        trie.put("contes", 0);
+
+        assertThat(trie.top("con", 3)).containsExactly(0, 5, 7);
+        assertThat(trie.top("", 3)).containsExactly(0, 1, 5);
+    }
+
+    @Test
+    @DisplayName("Should count a value stored under several keys only once")
+    void shouldDeduplicateValues() {
+        trie.put("concerto", 5);
+
+        assertThat(trie.top("conc", 3)).containsExactly(5);
+        assertThat(trie.remove("conc", 5)).isFalse();
+        assertThat(trie.remove("concert", 5)).isTrue();
+        assertThat(trie.top("conc", 3)).containsExactly(5);
+    }
+}
@@ -0,0 +1,72 @@
+package com.eventy.eventyeventservice.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the gradient concurrency limit
+ */
+@DisplayName("Adaptive Concurrency Limiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(100).toNanos();
+
+    @Test
+    @DisplayName("Should reject requests beyond the limit until a slot is released")
+    void shouldRejectBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 4, 10, 1.5);
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(FAST);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.stats().getRejectedCount()).isEqualTo(1L);
+        assertThat(limiter.stats().getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should raise the limit under load while latency holds, and cut it when latency climbs")
+    void shouldFollowLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 1.5);
+
+        saturate(limiter, FAST, 20);
+        int healthy = limiter.limit();
+        assertThat(healthy).isGreaterThan(20);
+
+        saturate(limiter, SLOW, 10);
+        assertThat(limiter.limit()).isLessThan(healthy / 2);
+    }
+
+    @Test
+    @DisplayName("Should not raise the limit while less than half of it is used")
+    void shouldNotGrowWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 1.5);
+
+        for (int i = 0; i < 500; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    // Rounds où toute la limite est utilisée, chaque requête prenant la latence donnée
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long latency, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(latency);
+            }
+        }
+    }
+}
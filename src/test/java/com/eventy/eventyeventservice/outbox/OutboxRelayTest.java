@@ -0,0 +1,116 @@
+package com.eventy.eventyeventservice.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private OutboxSink sink;
+
+    @InjectMocks
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        relay.clock = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Should mark only the accepted prefix of a batch as delivered")
+    void shouldMarkAcceptedPrefix() throws Exception {
+        // Arrange
+        List<OutboxMessage> batch = List.of(message(1), message(2), message(3));
+        givenLock(true);
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<OutboxMessage>>any(), eq(500))).thenReturn(batch);
+        when(sink.deliver(batch)).thenReturn(2);
+
+        // Act
+        relay.relay();
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE outbox_message SET delivered_at = now() WHERE id = ?"),
+                argThat((List<Object[]> rows) -> rows.size() == 2 && rows.get(1)[0].equals(2L)));
+        assertThat(relay.stats().getDeliveredCount()).isEqualTo(2L);
+        assertThat(relay.stats().getPartialBatchCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should back off after a sink failure, leaving the batch pending")
+    void shouldBackOffOnFailure() throws Exception {
+        // Arrange
+        givenLock(true);
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<OutboxMessage>>any(), eq(500)))
+                .thenReturn(List.of(message(1)));
+        when(sink.deliver(anyList())).thenThrow(new IOException("broker down"));
+
+        // Act
+        relay.relay();
+        relay.relay();
+
+        // Assert
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(relay.stats().getConsecutiveFailures()).isEqualTo(1);
+        assertThat(relay.stats().getNextAttemptAt()).isEqualTo(Instant.parse("2026-06-01T12:00:01Z"));
+    }
+
+    @Test
+    @DisplayName("Should not deliver while another instance holds the relay lock")
+    void shouldSkipWhenLocked() throws Exception {
+        // Arrange
+        givenLock(false);
+
+        // Act
+        relay.relay();
+
+        // Assert
+        verify(sink, never()).deliver(anyList());
+    }
+
+    private void givenLock(boolean acquired) {
+        when(jdbcTemplate.queryForObject(eq("SELECT pg_try_advisory_xact_lock(?)"), eq(Boolean.class), any()))
+                .thenReturn(acquired);
+    }
+
+    private static OutboxMessage message(long id) {
+        return new OutboxMessage(id, "event", UUID.randomUUID(), "CREATED", "{}", LocalDateTime.now());
+    }
+}
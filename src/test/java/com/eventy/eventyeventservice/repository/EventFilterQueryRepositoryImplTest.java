@@ -0,0 +1,104 @@
+package com.eventy.eventyeventservice.repository;
+
+import com.eventy.eventyeventservice.model.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the SQL assembled from the supplied filters
+ */
+@DisplayName("Event Filter Query Repository Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class EventFilterQueryRepositoryImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private Query query;
+
+    private final EventFilterQueryRepositoryImpl repository = new EventFilterQueryRepositoryImpl();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+        // Certaines requêtes n'ont aucun paramètre
+        lenient().when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Should only add the location filter when a location is supplied to the full-text search")
+    void fullTextSearch_ShouldOnlyAddSuppliedFilters() {
+        // Arrange
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createNativeQuery(sql.capture(), eq(Event.class))).thenReturn(query);
+
+        // Act
+        repository.fullTextSearch("jazz", "Paris", null, 50);
+
+        // Assert
+        assertThat(sql.getValue())
+                .contains("e.search_vector @@ query.q AND e.location ILIKE")
+                .doesNotContain("IS NULL", "category_id =");
+        verify(query).setParameter("keyword", "jazz");
+        verify(query).setParameter("location", "Paris");
+        verify(query).setParameter("limit", 50);
+        verify(query, never()).setParameter(eq("categoryId"), any());
+    }
+
+    @Test
+    @DisplayName("Should count facets without any WHERE clause when no filter is supplied")
+    void facetCounts_ShouldOmitWhere_WhenUnfiltered() {
+        // Arrange
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createNativeQuery(sql.capture(), eq(Tuple.class))).thenReturn(query);
+
+        // Act
+        repository.facetCounts(" ", null, null, null);
+
+        // Assert
+        assertThat(sql.getValue()).doesNotContain("WHERE").contains("GROUPING SETS");
+        verify(query, never()).setParameter(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should bind every supplied facet filter")
+    void fullTextFacetCounts_ShouldBindSuppliedFilters() {
+        // Arrange
+        String categoryId = UUID.randomUUID().toString();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createNativeQuery(sql.capture(), eq(Tuple.class))).thenReturn(query);
+
+        // Act
+        repository.fullTextFacetCounts("jazz", null, categoryId, "active");
+
+        // Assert
+        assertThat(sql.getValue())
+                .contains("WHERE e.search_vector @@ query.q AND e.category_id = CAST(:categoryId AS uuid) "
+                        + "AND e.status = :status")
+                .doesNotContain("IS NULL", ":location");
+        verify(query).setParameter("categoryId", categoryId);
+        verify(query).setParameter("status", "active");
+    }
+}
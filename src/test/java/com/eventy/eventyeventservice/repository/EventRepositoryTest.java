@@ -1,5 +1,6 @@
 package com.eventy.eventyeventservice.repository;
 
+import com.eventy.eventyeventservice.dto.EventResponse;
 import com.eventy.eventyeventservice.model.Event;
 import com.eventy.eventyeventservice.model.EventCategory;
 import com.eventy.eventyeventservice.model.EventStatus;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -248,6 +250,39 @@ class EventRepositoryTest {
         assertEquals(1, fullCount);
     }
 
+    @Test
+    @DisplayName("Should project events and their labels directly into responses")
+    void shouldProjectEventsIntoResponses() {
+        // Given
+        Event concert = createTestEvent("Concert Event", EventStatus.active);
+        concert.setEventType(concertType);
+        concert.setCategory(musicCategory);
+        Event full = createTestEvent("Full Event", EventStatus.full);
+        full.setStartDate(LocalDate.now().plusDays(40));
+        full.setEndDate(LocalDate.now().plusDays(41));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Optional<EventResponse> single = eventRepository.findResponseById(concert.getEventId());
+        List<EventResponse> active = eventRepository.findResponses(
+                EventSpecifications.hasStatus(EventStatus.active), EventSpecifications.keysetSort(Sort.Direction.ASC), 10);
+        List<EventResponse> all = eventRepository.findResponses(
+                null, EventSpecifications.keysetSort(Sort.Direction.DESC), 1);
+
+        // Then
+        assertTrue(single.isPresent());
+        assertEquals("Concert", single.get().getTypeLabel());
+        assertEquals("Music", single.get().getCategoryLabel());
+        assertEquals("active", single.get().getStatus());
+        assertEquals(concert.getStartDate().atStartOfDay(), single.get().getStartDate());
+        assertEquals(1, active.size());
+        assertEquals("Concert Event", active.get(0).getName());
+        assertEquals(1, all.size());
+        assertEquals("Full Event", all.get(0).getName());
+        assertNull(all.get(0).getTypeLabel());
+    }
+
     private Event createTestEvent(String name, EventStatus status) {
         Event event = new Event();
         event.setName(name);
@@ -1,5 +1,6 @@
 package com.eventy.eventyeventservice.repository;
 
+import com.eventy.eventyeventservice.dto.FavoriteResponse;
 import com.eventy.eventyeventservice.model.Event;
 import com.eventy.eventyeventservice.model.EventStatus;
 import com.eventy.eventyeventservice.model.Favorite;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -230,6 +232,36 @@ class FavoriteRepositoryTest {
         assertEquals(addedDate, retrieved.get().getAddedDate());
     }
 
+    @Test
+    @DisplayName("Should page compact favorites most recent first")
+    void shouldPageCompactFavoritesByAddedDate() {
+        // Given
+        Favorite older = createFavorite(userId, createEvent("Older"));
+        older.setAddedDate(LocalDate.now().minusDays(3));
+        Favorite newer = createFavorite(userId, createEvent("Newer"));
+        newer.setAddedDate(LocalDate.now().minusDays(1));
+        Favorite newest = createFavorite(userId, testEvent);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<FavoriteResponse> firstPage = favoriteRepository.findPageByUserId(userId, Limit.of(2));
+        FavoriteResponse last = firstPage.get(1);
+        List<FavoriteResponse> nextPage = favoriteRepository.findPageByUserIdAfter(
+                userId, last.getAddedDate(), last.getFavoriteId(), Limit.of(2));
+        List<UUID> eventIds = favoriteRepository.findEventIdsByUserId(userId);
+
+        // Then
+        assertEquals(List.of(newest.getFavoriteId(), newer.getFavoriteId()),
+                firstPage.stream().map(FavoriteResponse::getFavoriteId).toList());
+        assertEquals("Test Event", firstPage.get(0).getName());
+        assertEquals("active", firstPage.get(0).getStatus());
+        assertEquals(1, nextPage.size());
+        assertEquals("Older", nextPage.get(0).getName());
+        assertEquals(testEvent.getEventId(), eventIds.get(0));
+        assertEquals(3, eventIds.size());
+    }
+
     private Favorite createFavorite(UUID userId, Event event) {
         Favorite favorite = new Favorite();
         favorite.setUserId(userId);
@@ -0,0 +1,89 @@
+package com.eventy.eventyeventservice.service;
+
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.exception.InvalidRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the streaming export writer
+ */
+@DisplayName("Event Export Writer Unit Tests")
+class EventExportWriterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("Should write one JSON object per line in NDJSON")
+    void shouldWriteNdjsonLines() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EventExportWriter writer = new EventExportWriter(ExportFormat.NDJSON, out, objectMapper);
+
+        // Act
+        writer.accept(event("Concert"));
+        writer.accept(event("Festival"));
+        writer.flush();
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("name").asText()).isEqualTo("Concert");
+        assertThat(objectMapper.readTree(lines[1]).get("startDate").asText()).startsWith("2026-06-21T20:00");
+    }
+
+    @Test
+    @DisplayName("Should write a header and escape separators and quotes in CSV")
+    void shouldWriteEscapedCsv() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EventExportWriter writer = new EventExportWriter(ExportFormat.CSV, out, objectMapper);
+
+        // Act
+        writer.accept(event("Concert \"Live\", Paris"));
+        writer.flush();
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).startsWith("id,name,description,startDate");
+        assertThat(lines[1]).contains(",\"Concert \"\"Live\"\", Paris\",");
+        assertThat(lines[1]).contains(",2026-06-21T20:00,");
+        assertThat(lines[0]).endsWith(",fullAddress,latitude,longitude,imageUrl,status,typeLabel,categoryLabel,creatorId,favoriteCount");
+        assertThat(lines[1]).contains(",Paris,,48.8566,2.3522,,active,").endsWith(",12");
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown export format")
+    void shouldRejectUnknownFormat() {
+        assertThat(ExportFormat.fromString(" Csv ")).isEqualTo(ExportFormat.CSV);
+        assertThrows(InvalidRequestException.class, () -> ExportFormat.fromString("xml"));
+    }
+
+    private EventResponse event(String name) {
+        return EventResponse.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .startDate(LocalDateTime.of(2026, 6, 21, 20, 0))
+                .endDate(LocalDateTime.of(2026, 6, 21, 23, 0))
+                .location("Paris")
+                .latitude(48.8566)
+                .longitude(2.3522)
+                .status("active")
+                .favoriteCount(12L)
+                .build();
+    }
+}
@@ -1,31 +1,79 @@
 package com.eventy.eventyeventservice.service;
 
+import com.eventy.eventyeventservice.cache.ReferenceDataCache;
+import com.eventy.eventyeventservice.cache.SearchResultCache;
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.dto.CalendarResponse;
+import com.eventy.eventyeventservice.dto.CursorPage;
+import com.eventy.eventyeventservice.dto.EventChangeToken;
+import com.eventy.eventyeventservice.dto.EventChangesResponse;
+import com.eventy.eventyeventservice.dto.EventCursor;
 import com.eventy.eventyeventservice.dto.EventRequest;
 import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.dto.EventSearchCriteria;
+import com.eventy.eventyeventservice.dto.FacetResponse;
+import com.eventy.eventyeventservice.dto.NearbyEventResponse;
+import com.eventy.eventyeventservice.dto.SingleFlightStatsResponse;
+import com.eventy.eventyeventservice.dto.TrendingEventResponse;
+import com.eventy.eventyeventservice.exception.ChangeTokenExpiredException;
+import com.eventy.eventyeventservice.exception.InvalidCursorException;
+import com.eventy.eventyeventservice.exception.InvalidRequestException;
+import com.eventy.eventyeventservice.index.EventCalendarIndex;
+import com.eventy.eventyeventservice.index.EventFacetIndex;
+import com.eventy.eventyeventservice.index.EventGeoIndex;
+import com.eventy.eventyeventservice.index.EventSearchIndex;
+import com.eventy.eventyeventservice.index.EventSimilarityIndex;
+import com.eventy.eventyeventservice.index.EventSuggestIndex;
+import com.eventy.eventyeventservice.index.EventTrendingIndex;
+import com.eventy.eventyeventservice.index.EventVocabularyIndex;
+import com.eventy.eventyeventservice.index.FavoriteBitmapIndex;
 import com.eventy.eventyeventservice.model.Event;
 import com.eventy.eventyeventservice.model.EventCategory;
 import com.eventy.eventyeventservice.model.EventStatus;
 import com.eventy.eventyeventservice.model.EventType;
 import com.eventy.eventyeventservice.repository.EventCategoryRepository;
+import com.eventy.eventyeventservice.repository.EventChangeRow;
 import com.eventy.eventyeventservice.repository.EventRepository;
+import com.eventy.eventyeventservice.repository.EventSpecifications;
 import com.eventy.eventyeventservice.repository.EventTypeRepository;
+import com.eventy.eventyeventservice.repository.FacetCountRow;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +86,32 @@ class EventServiceTest {
     private EventTypeRepository eventTypeRepository;
     @Mock
     private EventCategoryRepository eventCategoryRepository;
+    @Mock
+    private EventSearchIndex searchIndex;
+    @Mock
+    private EventSuggestIndex suggestIndex;
+    @Mock
+    private EventGeoIndex geoIndex;
+    @Mock
+    private EventCalendarIndex calendarIndex;
+    @Mock
+    private EventFacetIndex facetIndex;
+    @Mock
+    private ReferenceDataCache referenceData;
+    @Mock
+    private SearchResultCache resultCache;
+    @Mock
+    private EventVocabularyIndex vocabularyIndex;
+    @Mock
+    private FavoriteBitmapIndex favoriteIndex;
+    @Mock
+    private EventTrendingIndex trendingIndex;
+    @Mock
+    private EventSimilarityIndex similarityIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private EventService eventService;
@@ -82,8 +156,10 @@ class EventServiceTest {
                 .build();
 
         // Mocking behavior
-        when(eventTypeRepository.findById(typeId)).thenReturn(Optional.of(type));
-        when(eventCategoryRepository.findById(catId)).thenReturn(Optional.of(category));
+        when(referenceData.findType(typeId)).thenReturn(type);
+        when(referenceData.findCategory(catId)).thenReturn(category);
+        when(eventTypeRepository.getReferenceById(typeId)).thenReturn(type);
+        when(eventCategoryRepository.getReferenceById(catId)).thenReturn(category);
         when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
 
         // Act
@@ -97,6 +173,12 @@ class EventServiceTest {
         assertThat(response.getCategoryLabel()).isEqualTo("Music");
 
         verify(eventRepository).save(any(Event.class));
+
+        // La création est notifiée aux index en mémoire
+        ArgumentCaptor<EventChange> change = ArgumentCaptor.forClass(EventChange.class);
+        verify(eventPublisher).publishEvent(change.capture());
+        assertThat(change.getValue().type()).isEqualTo(EventChange.Type.CREATED);
+        assertThat(change.getValue().after().categoryId()).isEqualTo(catId);
     }
 
     @Test
@@ -105,22 +187,12 @@ class EventServiceTest {
         // Arrange
         UUID id = UUID.randomUUID();
 
-        EventType type = new EventType();
-        type.setLabel("Concert");
-        EventCategory category = new EventCategory();
-        category.setLabel("Music");
-
-        Event event = Event.builder()
-                .eventId(id)
-                .name("Event Found")
-                .startDate(LocalDate.now())
-                .endDate(LocalDate.now().plusDays(1))
-                .eventType(type)
-                .category(category)
-                .status(EventStatus.active)
-                .build();
+        // La projection construit directement la réponse, libellés joints
+        EventResponse projected = new EventResponse(id, "Event Found", null, LocalDate.now(), LocalDate.now().plusDays(1),
+                null, null, null, null, null, EventStatus.active, "Concert", "Music", null);
 
-        when(eventRepository.findById(id)).thenReturn(Optional.of(event));
+        when(eventRepository.findResponseById(id)).thenReturn(Optional.of(projected));
+        when(favoriteIndex.count(id)).thenReturn(42L);
 
         // Act
         EventResponse response = eventService.getEventById(id);
@@ -128,6 +200,11 @@ class EventServiceTest {
         // Assert
         assertThat(response.getId()).isEqualTo(id);
         assertThat(response.getName()).isEqualTo("Event Found");
+        assertThat(response.getStatus()).isEqualTo("active");
+        assertThat(response.getTypeLabel()).isEqualTo("Concert");
+        assertThat(response.getFavoriteCount()).isEqualTo(42L);
+        verify(eventRepository, never()).findById(any());
+        verify(trendingIndex).recordView(id);
     }
 
     @Test
@@ -135,24 +212,115 @@ class EventServiceTest {
     void getEventById_ShouldThrowException_WhenNotFound() {
         // Arrange
         UUID id = UUID.randomUUID();
-        when(eventRepository.findById(id)).thenReturn(Optional.empty());
+        when(eventRepository.findResponseById(id)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(EntityNotFoundException.class, () -> eventService.getEventById(id));
     }
 
     @Test
-    @DisplayName("Should filter events using getAvailableEvents")
-    void getAvailableEvents_ShouldReturnFilteredList() {
+    @DisplayName("Should share one read between concurrent reads of the same event, counting every view")
+    void getEventById_ShouldCoalesceConcurrentReads() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        EventResponse projected = response(id, "Event Found", LocalDate.now());
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventRepository.findResponseById(id)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(projected);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<EventResponse> leader = executor.submit(() -> eventService.getEventById(id));
+            readStarted.await(5, TimeUnit.SECONDS);
+            Future<EventResponse> follower = executor.submit(() -> eventService.getEventById(id));
+            awaitShared(SingleFlightStatsResponse::getEventSharedCount);
+            release.countDown();
+
+            // Assert
+            assertThat(leader.get(5, TimeUnit.SECONDS).getName()).isEqualTo("Event Found");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get());
+            verify(eventRepository, times(1)).findResponseById(id);
+            verify(trendingIndex, times(2)).recordView(id);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should share one catalog read between concurrent identical page requests, in one transaction")
+    void getAvailableEventsPage_ShouldCoalesceConcurrentCalls() throws Exception {
+        // Arrange
+        EventResponse event = response(UUID.randomUUID(), "Jazz Night", LocalDate.now());
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventRepository.findResponses(any(Specification.class), any(Sort.class), anyInt())).thenAnswer(invocation -> {
+            readStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(event);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<CursorPage<EventResponse>> leader = executor.submit(() ->
+                    eventService.getAvailableEventsPage(null, "Paris", null, null, null, Sort.Direction.ASC));
+            readStarted.await(5, TimeUnit.SECONDS);
+            Future<CursorPage<EventResponse>> follower = executor.submit(() ->
+                    eventService.getAvailableEventsPage(null, "Paris", null, null, null, Sort.Direction.ASC));
+            awaitShared(SingleFlightStatsResponse::getSearchSharedCount);
+            release.countDown();
+
+            // Assert
+            assertThat(leader.get(5, TimeUnit.SECONDS).getItems()).extracting(EventResponse::getName)
+                    .containsExactly("Jazz Night");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get());
+            verify(eventRepository, times(1)).findResponses(any(), any(), anyInt());
+            // Seul l'appelant qui exécute la lecture ouvre une transaction
+            verify(transactionManager, times(1)).getTransaction(any());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should filter events using getAvailableEventsPage")
+    void getAvailableEventsPage_ShouldReturnFilteredList() {
         // Arrange
         String search = "Jazz";
         String location = "Paris";
         UUID catId = UUID.randomUUID();
 
-        EventType type = new EventType();
-        type.setLabel("Concert");
-        EventCategory category = new EventCategory();
-        category.setLabel("Music");
+        EventResponse event = response(UUID.randomUUID(), "Jazz Night", LocalDate.now());
+
+        // Filtres et tri passés en une seule requête de projection, bornée à la fenêtre mise en cache
+        Sort sort = Sort.by(Sort.Direction.ASC, "startDate").and(Sort.by(Sort.Direction.ASC, "eventId"));
+        when(eventRepository.findResponses(any(Specification.class), eq(sort), eq(201)))
+                .thenReturn(List.of(event));
+
+        // Act
+        CursorPage<EventResponse> page = eventService.getAvailableEventsPage(search, location, catId,
+                null, null, Sort.Direction.ASC);
+
+        // Assert
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getName()).isEqualTo("Jazz Night");
+        assertThat(page.getNextCursor()).isNull();
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should use ranked full-text search when the mode is enabled")
+    void getAvailableEventsPage_ShouldUseFullText_WhenModeEnabled() {
+        // Arrange
+        ReflectionTestUtils.setField(eventService, "searchMode", SearchMode.FULL_TEXT);
+        UUID catId = UUID.randomUUID();
 
         Event event = Event.builder()
                 .eventId(UUID.randomUUID())
@@ -160,24 +328,304 @@ class EventServiceTest {
                 .location("Paris")
                 .startDate(LocalDate.now())
                 .endDate(LocalDate.now().plusDays(1))
-                .eventType(type)
-                .category(category)
                 .status(EventStatus.active)
                 .build();
 
-        // On mock l'appel au repository avec les paramètres exacts
-        when(eventRepository.searchEvents(search, location, catId))
+        when(eventRepository.fullTextSearch("Jazz", "Paris", catId.toString(), 50))
                 .thenReturn(List.of(event));
 
         // Act
-        List<EventResponse> results = eventService.getAvailableEvents(search, location, catId);
+        CursorPage<EventResponse> page = eventService.getAvailableEventsPage(" Jazz ", "Paris", catId,
+                null, null, Sort.Direction.ASC);
+
+        // Assert
+        assertThat(page.getItems()).extracting(EventResponse::getName).containsExactly("Jazz Night");
+        assertThat(page.getNextCursor()).isNull();
+        verify(eventRepository, never()).findResponses(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should compute filtered facets with a single grouped query")
+    void getFacets_ShouldUseGroupedQuery_WhenFiltered() {
+        // Arrange
+        UUID catId = UUID.randomUUID();
+        when(eventRepository.facetCounts("jazz", null, null, "active")).thenReturn(List.of(
+                new Row("total", null, null, 3L),
+                new Row("category", catId.toString(), null, 3L),
+                new Row("location", "paris", "Paris", 2L),
+                new Row("location", "lyon", "Lyon", 1L),
+                new Row("status", "active", null, 3L)));
+        when(referenceData.categoryLabel(catId)).thenReturn("Musique");
+
+        // Act
+        FacetResponse facets = eventService.getFacets("jazz", null, null, EventStatus.active);
+
+        // Assert
+        assertThat(facets.getTotal()).isEqualTo(3L);
+        assertThat(facets.getCategories()).extracting(FacetResponse.FacetValue::getLabel).containsExactly("Musique");
+        assertThat(facets.getLocations()).extracting(FacetResponse.FacetValue::getValue).containsExactly("Paris", "Lyon");
+        verify(facetIndex, never()).counts(any(EventStatus.class));
+    }
+
+    private record Row(String getDimension, String getValue, String getLabel, Long getCount) implements FacetCountRow {
+    }
+
+    @Test
+    @DisplayName("Should return nearby events nearest first with their distance")
+    void getNearbyEvents_ShouldHydrateHitsWithDistance() {
+        // Arrange
+        UUID nearId = UUID.randomUUID();
+        UUID farId = UUID.randomUUID();
+        EventResponse near = response(nearId, "Near", LocalDate.now());
+        EventResponse far = response(farId, "Far", LocalDate.now());
+
+        when(geoIndex.nearby(48.85, 2.35, 10, 50)).thenReturn(List.of(
+                new EventGeoIndex.Hit(nearId, 0.4321), new EventGeoIndex.Hit(farId, 7.5)));
+        when(eventRepository.findResponsesByIds(List.of(nearId, farId))).thenReturn(List.of(far, near));
+
+        // Act
+        List<NearbyEventResponse> results = eventService.getNearbyEvents(48.85, 2.35, 10, 50);
 
         // Assert
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).getName()).isEqualTo("Jazz Night");
+        assertThat(results).extracting(r -> r.getEvent().getName()).containsExactly("Near", "Far");
+        assertThat(results).extracting(NearbyEventResponse::getDistanceKm).containsExactly(0.432, 7.5);
+    }
+
+    @Test
+    @DisplayName("Should return trending events in ranking order with their score")
+    void getTrendingEvents_ShouldHydrateRankingWithScore() {
+        // Arrange
+        UUID categoryId = UUID.randomUUID();
+        UUID hotId = UUID.randomUUID();
+        UUID warmId = UUID.randomUUID();
+
+        when(trendingIndex.capacity()).thenReturn(100);
+        when(trendingIndex.trending(categoryId, 100)).thenReturn(List.of(
+                new EventTrendingIndex.Hit(hotId, 12.34567), new EventTrendingIndex.Hit(warmId, 3)));
+        when(eventRepository.findResponsesByIds(List.of(hotId, warmId))).thenReturn(List.of(
+                response(warmId, "Warm", LocalDate.now()), response(hotId, "Hot", LocalDate.now())));
+
+        // Act
+        List<TrendingEventResponse> results = eventService.getTrendingEvents(categoryId, 500);
 
-        // Vérifie que le service passe bien les bons arguments au repo
-        verify(eventRepository).searchEvents(search, location, catId);
+        // Assert
+        assertThat(results).extracting(r -> r.getEvent().getName()).containsExactly("Hot", "Warm");
+        assertThat(results).extracting(TrendingEventResponse::getScore).containsExactly(12.346, 3.0);
+    }
+
+    @Test
+    @DisplayName("Should return the changes since the token, split into changed and deleted events")
+    void getChangesSince_ShouldSplitChangesAndAdvanceToken() {
+        // Arrange
+        UUID updatedId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        UUID laterId = UUID.randomUUID();
+        when(eventRepository.findChangeHorizon()).thenReturn(5L);
+        when(eventRepository.findChangesSince(10L, 3)).thenReturn(List.of(
+                changeRow(updatedId, 11, false), changeRow(deletedId, 14, true), changeRow(laterId, 15, false)));
+        when(eventRepository.findResponsesByIds(List.of(updatedId)))
+                .thenReturn(List.of(response(updatedId, "Updated", LocalDate.now())));
+
+        // Act
+        EventChangesResponse changes = eventService.getChangesSince(new EventChangeToken(10).encode(), 2);
+
+        // Assert
+        assertThat(changes.getChanged()).extracting(EventResponse::getName).containsExactly("Updated");
+        assertThat(changes.getDeleted()).containsExactly(deletedId);
+        assertThat(changes.isHasMore()).isTrue();
+        assertThat(EventChangeToken.decode(changes.getNextToken()).sequence()).isEqualTo(14L);
+    }
+
+    @Test
+    @DisplayName("Should reject a change token older than the purged deletions")
+    void getChangesSince_ShouldRejectExpiredToken() {
+        // Arrange
+        when(eventRepository.findChangeHorizon()).thenReturn(100L);
+        String token = new EventChangeToken(42).encode();
+
+        // Act & Assert
+        assertThrows(ChangeTokenExpiredException.class, () -> eventService.getChangesSince(token, null));
+        assertThrows(InvalidCursorException.class, () -> eventService.getChangesSince("not-a-token", null));
+        verify(eventRepository, never()).findChangesSince(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid coordinates and radius")
+    void getNearbyEvents_ShouldRejectInvalidInput() {
+        assertThrows(InvalidRequestException.class, () -> eventService.getNearbyEvents(91, 2.35, 10, 50));
+        assertThrows(InvalidRequestException.class, () -> eventService.getNearbyEvents(48.85, 2.35, 0, 50));
+        verify(geoIndex, never()).nearby(anyDouble(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should answer from the in-memory index and hydrate matching IDs in order")
+    void getAvailableEventsPage_ShouldUseMemoryIndex_WhenReady() {
+        // Arrange
+        ReflectionTestUtils.setField(eventService, "searchMode", SearchMode.MEMORY);
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+
+        LocalDate day = LocalDate.now();
+        EventResponse first = response(firstId, "First", day);
+        EventResponse second = response(secondId, "Second", day);
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.page("jazz", null, null, null, 51))
+                .thenReturn(List.of(new EventSearchIndex.Hit(secondId, day), new EventSearchIndex.Hit(firstId, day)));
+        when(eventRepository.findResponsesByIds(List.of(secondId, firstId))).thenReturn(List.of(first, second));
+
+        // Act
+        CursorPage<EventResponse> page = eventService.getAvailableEventsPage("jazz", null, null,
+                null, null, Sort.Direction.ASC);
+
+        // Assert
+        assertThat(page.getItems()).extracting(EventResponse::getName).containsExactly("Second", "First");
+        assertThat(page.getNextCursor()).isNull();
+        verify(eventRepository, never()).findResponses(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return one page and a cursor pointing after its last event")
+    void getEventsByStatus_ShouldReturnPageWithNextCursor() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(3);
+        List<EventResponse> rows = List.of(
+                response(UUID.randomUUID(), "A", day),
+                response(UUID.randomUUID(), "B", day),
+                response(UUID.randomUUID(), "C", day));
+
+        // Le repository renvoie size + 1 lignes : il existe une page suivante
+        when(eventRepository.findResponses(any(Specification.class), any(Sort.class), eq(3))).thenReturn(rows);
+
+        // Act
+        CursorPage<EventResponse> page = eventService.getEventsByStatus(EventStatus.full, null, 2, Sort.Direction.ASC);
+
+        // Assert
+        assertThat(page.getItems()).extracting(EventResponse::getName).containsExactly("A", "B");
+        assertThat(EventCursor.decode(page.getNextCursor()))
+                .isEqualTo(new EventCursor(day, rows.get(1).getId()));
+    }
+
+    @Test
+    @DisplayName("Should search the criteria one page at a time in start date order")
+    void searchEvents_ShouldReturnPage() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(3);
+        EventSearchCriteria criteria = EventSearchCriteria.builder()
+                .categoryIds(Set.of(UUID.randomUUID(), UUID.randomUUID()))
+                .status(EventStatus.active)
+                .startFrom(day)
+                .startTo(day.plusDays(7))
+                .build();
+        List<EventResponse> rows = List.of(response(UUID.randomUUID(), "A", day));
+        Sort sort = EventSpecifications.keysetSort(Sort.Direction.DESC);
+        when(eventRepository.findResponses(any(Specification.class), eq(sort), eq(11))).thenReturn(rows);
+
+        // Act
+        CursorPage<EventResponse> page = eventService.searchEvents(criteria, null, 10, Sort.Direction.DESC);
+
+        // Assert
+        assertThat(page.getItems()).extracting(EventResponse::getName).containsExactly("A");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return the calendar window with one count per day and flag a truncated event list")
+    void getCalendar_ShouldReturnDaysAndEvents() {
+        // Arrange
+        LocalDate from = LocalDate.of(2026, 7, 1);
+        UUID firstId = UUID.randomUUID();
+        when(calendarIndex.window(from, from.plusDays(2), null, 1))
+                .thenReturn(new EventCalendarIndex.Window(List.of(firstId), new int[]{2, 1, 0}, 2));
+        when(eventRepository.findResponsesByIds(List.of(firstId)))
+                .thenReturn(List.of(response(firstId, "First", from)));
+
+        // Act
+        CalendarResponse calendar = eventService.getCalendar(from, from.plusDays(2), null, 1);
+
+        // Assert
+        assertThat(calendar.getDays()).extracting(CalendarResponse.CalendarDay::getCount).containsExactly(2, 1, 0);
+        assertThat(calendar.getDays().get(2).getDate()).isEqualTo(from.plusDays(2));
+        assertThat(calendar.getEvents()).extracting(EventResponse::getName).containsExactly("First");
+        assertThat(calendar.isTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a calendar window longer than the maximum")
+    void getCalendar_ShouldRejectLongWindow() {
+        // Arrange
+        LocalDate from = LocalDate.of(2026, 1, 1);
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> eventService.getCalendar(from, from.plusYears(2), null, 10));
+        verify(calendarIndex, never()).window(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject a date range ending before it starts")
+    void searchEvents_ShouldRejectInvertedRange() {
+        // Arrange
+        LocalDate day = LocalDate.now();
+        EventSearchCriteria criteria = EventSearchCriteria.builder().startFrom(day).startTo(day.minusDays(1)).build();
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> eventService.searchEvents(criteria, null, null, null));
+        verify(eventRepository, never()).findResponses(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should serve the first page from the cached ID window without querying the catalog")
+    void getAvailableEventsPage_ShouldUseCachedWindow() {
+        // Arrange
+        LocalDate day = LocalDate.now().plusDays(3);
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        EventResponse first = response(firstId, "First", day);
+
+        when(resultCache.getIfPresent(SearchResultCache.Key.of(null, null, null)))
+                .thenReturn(new SearchResultCache.Entry(List.of(firstId, secondId), List.of(day, day)));
+        when(eventRepository.findResponsesByIds(List.of(firstId))).thenReturn(List.of(first));
+
+        // Act
+        CursorPage<EventResponse> page = eventService.getAvailableEventsPage(null, null, null, null, 1, Sort.Direction.ASC);
+
+        // Assert
+        assertThat(page.getItems()).extracting(EventResponse::getName).containsExactly("First");
+        assertThat(EventCursor.decode(page.getNextCursor())).isEqualTo(new EventCursor(day, firstId));
+        verify(eventRepository, never()).findResponses(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should page in-memory keyword matches by cursor, loading only the page")
+    void getAvailableEventsPage_ShouldPageMemoryIndex() {
+        // Arrange
+        ReflectionTestUtils.setField(eventService, "searchMode", SearchMode.MEMORY);
+        LocalDate day = LocalDate.now().plusDays(3);
+        UUID previousId = UUID.randomUUID();
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        EventSearchIndex.Hit after = new EventSearchIndex.Hit(previousId, day);
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.page("jazz", null, null, after, 2))
+                .thenReturn(List.of(new EventSearchIndex.Hit(firstId, day), new EventSearchIndex.Hit(secondId, day)));
+        when(eventRepository.findResponsesByIds(List.of(firstId))).thenReturn(List.of(response(firstId, "First", day)));
+
+        // Act
+        CursorPage<EventResponse> page = eventService.getAvailableEventsPage("jazz", null, null,
+                new EventCursor(day, previousId).encode(), 1, Sort.Direction.ASC);
+
+        // Assert
+        assertThat(page.getItems()).extracting(EventResponse::getName).containsExactly("First");
+        assertThat(EventCursor.decode(page.getNextCursor())).isEqualTo(new EventCursor(day, firstId));
+        verify(searchIndex, never()).search(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that was not issued by the service")
+    void getUpcomingEvents_ShouldRejectInvalidCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> eventService.getUpcomingEvents("not-a-cursor", null, Sort.Direction.ASC));
     }
 
     @Test
@@ -211,7 +659,8 @@ class EventServiceTest {
                 .build();
 
         when(eventRepository.findById(id)).thenReturn(Optional.of(existingEvent));
-        when(eventTypeRepository.findById(newTypeId)).thenReturn(Optional.of(newType));
+        when(referenceData.findType(newTypeId)).thenReturn(newType);
+        when(eventTypeRepository.getReferenceById(newTypeId)).thenReturn(newType);
 
         // Mock du save : on retourne l'objet modifié (qui est le premier argument)
         when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -238,4 +687,41 @@ class EventServiceTest {
         // Assert
         verify(eventRepository).deleteById(id);
     }
-}
\ No newline at end of file
+
+    private static EventResponse response(UUID id, String name, LocalDate day) {
+        return EventResponse.builder()
+                .id(id)
+                .name(name)
+                .startDate(day.atStartOfDay())
+                .endDate(day.atStartOfDay())
+                .status(EventStatus.active.name())
+                .build();
+    }
+
+    private static EventChangeRow changeRow(UUID eventId, long changeSeq, boolean deleted) {
+        return new EventChangeRow() {
+            @Override
+            public UUID getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Long getChangeSeq() {
+                return changeSeq;
+            }
+
+            @Override
+            public Boolean getDeleted() {
+                return deleted;
+            }
+        };
+    }
+
+    // Le second appelant est en attente du premier
+    private void awaitShared(ToLongFunction<SingleFlightStatsResponse> sharedCount) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sharedCount.applyAsLong(eventService.singleFlightStats()) < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
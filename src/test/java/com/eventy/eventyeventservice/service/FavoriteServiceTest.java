@@ -0,0 +1,313 @@
+package com.eventy.eventyeventservice.service;
+
+import com.eventy.eventyeventservice.cache.FavoriteMembershipCache;
+import com.eventy.eventyeventservice.dto.CursorPage;
+import com.eventy.eventyeventservice.dto.EventResponse;
+import com.eventy.eventyeventservice.dto.FavoriteCursor;
+import com.eventy.eventyeventservice.dto.FavoriteRequest;
+import com.eventy.eventyeventservice.dto.FavoriteResponse;
+import com.eventy.eventyeventservice.dto.RecommendedEventResponse;
+import com.eventy.eventyeventservice.exception.InvalidRequestException;
+import com.eventy.eventyeventservice.index.FavoriteBitmapIndex;
+import com.eventy.eventyeventservice.model.Favorite;
+import com.eventy.eventyeventservice.repository.EventRepository;
+import com.eventy.eventyeventservice.repository.FavoriteRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FavoriteServiceTest {
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private FavoriteMembershipCache membershipCache;
+    @Mock
+    private FavoriteBitmapIndex favoriteIndex;
+    @Mock
+    private FavoriteWriteBuffer writeBuffer;
+    @Mock
+    private EventService eventService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private FavoriteService favoriteService;
+
+    @Test
+    @DisplayName("Should return one page of favorites and a cursor pointing after its last row")
+    void getFavoritesByUser_ShouldReturnPageWithNextCursor() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        List<FavoriteResponse> rows = List.of(favorite("A", today), favorite("B", today), favorite("C", today.minusDays(1)));
+
+        // Le repository renvoie size + 1 lignes : il existe une page suivante
+        when(favoriteRepository.findPageByUserId(userId, Limit.of(3))).thenReturn(rows);
+
+        // Act
+        CursorPage<FavoriteResponse> page = favoriteService.getFavoritesByUser(userId, null, 2);
+
+        // Assert
+        assertThat(page.getItems()).extracting(FavoriteResponse::getName).containsExactly("A", "B");
+        assertThat(FavoriteCursor.decode(page.getNextCursor()))
+                .isEqualTo(new FavoriteCursor(today, rows.get(1).getFavoriteId()));
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor position")
+    void getFavoritesByUser_ShouldSeekAfterCursor() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        FavoriteCursor cursor = new FavoriteCursor(LocalDate.now(), UUID.randomUUID());
+        when(favoriteRepository.findPageByUserIdAfter(userId, cursor.addedDate(), cursor.favoriteId(), Limit.of(51)))
+                .thenReturn(List.of(favorite("Last", LocalDate.now().minusDays(2))));
+
+        // Act
+        CursorPage<FavoriteResponse> page = favoriteService.getFavoritesByUser(userId, cursor.encode(), null);
+
+        // Assert
+        assertThat(page.getItems()).extracting(FavoriteResponse::getName).containsExactly("Last");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should merge pending toggles before cutting the page and pointing its cursor")
+    void getFavoritesByUser_ShouldMergePendingBeforeSlicing() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        FavoriteResponse removed = favorite("Removed", today.minusDays(1));
+        FavoriteResponse kept = favorite("Kept", today.minusDays(2));
+        FavoriteResponse older = favorite("Older", today.minusDays(3));
+        UUID addedEventId = UUID.randomUUID();
+        FavoriteWriteBuffer.Pending added = new FavoriteWriteBuffer.Pending(true, today, UUID.randomUUID());
+
+        when(writeBuffer.pendingFor(userId)).thenReturn(Map.of(
+                addedEventId, added,
+                removed.getEventId(), new FavoriteWriteBuffer.Pending(false, null, null)));
+        // Une ligne de plus par toggle en attente : le retrait masque une ligne écrite
+        when(favoriteRepository.findPageByUserId(userId, Limit.of(5))).thenReturn(List.of(removed, kept, older));
+        when(favoriteRepository.findFavoritedEventIds(userId, List.of(addedEventId))).thenReturn(List.of());
+        when(eventRepository.findResponsesByIds(List.of(addedEventId)))
+                .thenReturn(List.of(EventResponse.builder().id(addedEventId).name("Added").build()));
+
+        // Act
+        CursorPage<FavoriteResponse> page = favoriteService.getFavoritesByUser(userId, null, 2);
+
+        // Assert
+        assertThat(page.getItems()).extracting(FavoriteResponse::getName).containsExactly("Added", "Kept");
+        assertThat(page.getItems().get(0).getFavoriteId()).isEqualTo(added.favoriteId());
+        assertThat(FavoriteCursor.decode(page.getNextCursor()))
+                .isEqualTo(new FavoriteCursor(kept.getAddedDate(), kept.getFavoriteId()));
+    }
+
+    @Test
+    @DisplayName("Should not repeat a pending addition that sorts before the cursor position")
+    void getFavoritesByUser_ShouldSkipPendingBeforeCursor() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID addedEventId = UUID.randomUUID();
+        FavoriteCursor cursor = new FavoriteCursor(LocalDate.now().minusDays(1), UUID.randomUUID());
+        when(writeBuffer.pendingFor(userId)).thenReturn(Map.of(
+                addedEventId, new FavoriteWriteBuffer.Pending(true, LocalDate.now(), UUID.randomUUID())));
+        when(favoriteRepository.findPageByUserIdAfter(userId, cursor.addedDate(), cursor.favoriteId(), Limit.of(52)))
+                .thenReturn(List.of(favorite("Last", LocalDate.now().minusDays(2))));
+        when(favoriteRepository.findFavoritedEventIds(userId, List.of(addedEventId))).thenReturn(List.of());
+        when(eventRepository.findResponsesByIds(List.of(addedEventId)))
+                .thenReturn(List.of(EventResponse.builder().id(addedEventId).name("Added").build()));
+
+        // Act
+        CursorPage<FavoriteResponse> page = favoriteService.getFavoritesByUser(userId, cursor.encode(), null);
+
+        // Assert
+        assertThat(page.getItems()).extracting(FavoriteResponse::getName).containsExactly("Last");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should answer membership with one IN query when the user has no warm set")
+    void containsFavorites_ShouldQueryOnce_WhenCold() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID liked = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        when(membershipCache.getIfPresent(userId)).thenReturn(null);
+        when(favoriteRepository.findFavoritedEventIds(userId, Set.of(other, liked))).thenReturn(List.of(liked));
+
+        // Act
+        Map<UUID, Boolean> result = favoriteService.containsFavorites(userId, List.of(other, liked, other));
+
+        // Assert
+        assertThat(result.keySet()).containsExactly(other, liked);
+        assertThat(result.get(liked)).isTrue();
+        assertThat(result.get(other)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer membership from the warm in-memory set without querying")
+    void containsFavorites_ShouldUseWarmSet() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID liked = UUID.randomUUID();
+        when(membershipCache.getIfPresent(userId)).thenReturn(Set.of(liked));
+
+        // Act
+        Map<UUID, Boolean> result = favoriteService.containsFavorites(userId, List.of(liked, UUID.randomUUID()));
+
+        // Assert
+        assertThat(result.values()).containsExactly(true, false);
+        verify(favoriteRepository, never()).findFavoritedEventIds(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should answer membership from the favorite bitmaps once they are loaded")
+    void containsFavorites_ShouldUseBitmapIndex() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID liked = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        when(favoriteIndex.isReady()).thenReturn(true);
+        when(favoriteIndex.favoritedAmong(userId, Set.of(liked, other))).thenReturn(Set.of(liked));
+
+        // Act
+        Map<UUID, Boolean> result = favoriteService.containsFavorites(userId, List.of(liked, other));
+
+        // Assert
+        assertThat(result.values()).containsExactly(true, false);
+        verify(membershipCache, never()).getIfPresent(any());
+        verify(favoriteRepository, never()).findFavoritedEventIds(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should read its own buffered toggles before they are written")
+    void containsFavorites_ShouldApplyPendingToggles() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        when(membershipCache.getIfPresent(userId)).thenReturn(Set.of(removed));
+        when(writeBuffer.pendingFor(userId)).thenReturn(Map.of(
+                added, new FavoriteWriteBuffer.Pending(true, LocalDate.now(), UUID.randomUUID()),
+                removed, new FavoriteWriteBuffer.Pending(false, null, null)));
+
+        // Act
+        Map<UUID, Boolean> result = favoriteService.containsFavorites(userId, List.of(added, removed));
+
+        // Assert
+        assertThat(result.values()).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("Should buffer removals instead of deleting when write-behind is enabled")
+    void deleteFavorite_ShouldBuffer_WhenWriteBehind() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        when(writeBuffer.isEnabled()).thenReturn(true);
+
+        // Act
+        favoriteService.deleteFavorite(userId, eventId);
+
+        // Assert
+        verify(writeBuffer).remove(userId, eventId);
+        verify(favoriteRepository, never()).findByUserIdAndEvent_EventId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject membership requests above the configured size")
+    void containsFavorites_ShouldRejectTooManyIds() {
+        List<UUID> eventIds = Stream.generate(UUID::randomUUID).limit(501).toList();
+
+        assertThrows(InvalidRequestException.class, () -> favoriteService.containsFavorites(UUID.randomUUID(), eventIds));
+    }
+
+    @Test
+    @DisplayName("Should recommend from the user's favorites, pending additions included")
+    void getRecommendations_ShouldUseFavoritesAndPendingToggles() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID stored = UUID.randomUUID();
+        UUID pendingAdd = UUID.randomUUID();
+        List<RecommendedEventResponse> recommendations = List.of(new RecommendedEventResponse());
+        when(favoriteRepository.findEventIdsByUserId(userId)).thenReturn(List.of(stored));
+        when(writeBuffer.pendingFor(userId)).thenReturn(Map.of(pendingAdd, new FavoriteWriteBuffer.Pending(true, LocalDate.now(), UUID.randomUUID())));
+        when(eventService.getRecommendedEvents(List.of(pendingAdd, stored), 10)).thenReturn(recommendations);
+
+        // Act
+        List<RecommendedEventResponse> result = favoriteService.getRecommendations(userId, 10);
+
+        // Assert
+        assertThat(result).isSameAs(recommendations);
+    }
+
+    @Test
+    @DisplayName("Should reject a favorite on an unknown event")
+    void addFavorite_ShouldThrow_WhenEventNotFound() {
+        // Arrange
+        FavoriteRequest request = new FavoriteRequest(UUID.randomUUID(), UUID.randomUUID());
+        when(eventRepository.existsById(request.getEventId())).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> favoriteService.addFavorite(request));
+        verify(favoriteRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should return the existing favorite when the event is added twice")
+    void addFavorite_ShouldBeIdempotent() {
+        // Arrange
+        FavoriteRequest request = new FavoriteRequest(UUID.randomUUID(), UUID.randomUUID());
+        Favorite existing = new Favorite();
+        existing.setFavoriteId(UUID.randomUUID());
+        FavoriteResponse response = favorite("Existing", LocalDate.now());
+
+        when(eventRepository.existsById(request.getEventId())).thenReturn(true);
+        when(favoriteRepository.findByUserIdAndEvent_EventId(request.getUserId(), request.getEventId()))
+                .thenReturn(Optional.of(existing));
+        when(favoriteRepository.findResponseById(existing.getFavoriteId())).thenReturn(Optional.of(response));
+
+        // Act
+        FavoriteResponse result = favoriteService.addFavorite(request);
+
+        // Assert
+        assertThat(result).isSameAs(response);
+        verify(favoriteRepository, never()).saveAndFlush(any());
+    }
+
+    private static FavoriteResponse favorite(String name, LocalDate addedDate) {
+        return FavoriteResponse.builder()
+                .favoriteId(UUID.randomUUID())
+                .eventId(UUID.randomUUID())
+                .name(name)
+                .startDate(addedDate.plusDays(10).atStartOfDay())
+                .status("active")
+                .addedDate(addedDate)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.eventy.eventyeventservice.service;
+
+import com.eventy.eventyeventservice.change.FavoriteChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FavoriteWriteBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private FavoriteWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("Should coalesce toggles of the same favorite into its last state")
+    void shouldCoalesceToggles() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+
+        // Act
+        buffer.add(userId, eventId);
+        buffer.remove(userId, eventId);
+        buffer.add(userId, eventId);
+
+        // Assert
+        assertThat(buffer.pendingFor(userId)).hasSize(1);
+        assertThat(buffer.pendingFor(userId).get(eventId).favorite()).isTrue();
+        assertThat(buffer.stats().getToggleCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should write net changes in batches and notify only the rows actually written")
+    @SuppressWarnings("unchecked")
+    void shouldFlushNetChanges() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        buffer.add(userId, added);
+        buffer.remove(userId, removed);
+        UUID favoriteId = buffer.pendingFor(userId).get(added).favoriteId();
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation ->
+                invocation.<String>getArgument(0).startsWith("INSERT") ? new int[]{1} : new int[]{0});
+
+        // Act
+        buffer.flush();
+
+        // Assert
+        verify(eventPublisher).publishEvent(FavoriteChange.added(userId, added));
+        verify(eventPublisher, never()).publishEvent(FavoriteChange.removed(userId, removed));
+        verify(jdbcTemplate).batchUpdate(eq("DELETE FROM favorite WHERE user_id = ? AND event_id = ?"),
+                argThat((List<Object[]> rows) -> rows.size() == 1));
+        // La ligne est insérée avec l'ID déjà exposé par la lecture des favoris en attente
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"),
+                argThat((List<Object[]> rows) -> favoriteId.equals(rows.get(0)[0])));
+        assertThat(buffer.pendingFor(userId)).isEmpty();
+        assertThat(buffer.stats().getWrittenRowCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep toggles pending when the flush fails")
+    void shouldKeepTogglesOnFailure() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        buffer.add(userId, UUID.randomUUID());
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("database down"));
+
+        // Act
+        buffer.scheduledFlush();
+
+        // Assert
+        assertThat(buffer.pendingFor(userId)).hasSize(1);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,137 @@
+package com.eventy.eventyeventservice.stream;
+
+import com.eventy.eventyeventservice.change.EventChange;
+import com.eventy.eventyeventservice.change.EventSnapshot;
+import com.eventy.eventyeventservice.dto.EventNotification;
+import com.eventy.eventyeventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the fan-out, filters and drop-oldest buffers of the event push stream
+ */
+@DisplayName("Event Broadcaster Unit Tests")
+class EventBroadcasterTest {
+
+    private final UUID music = UUID.randomUUID();
+    private final List<Runnable> pendingSends = new ArrayList<>();
+    private EventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new EventBroadcaster(2, 2, Duration.ofMinutes(1));
+        broadcaster.senders = pendingSends::add;
+        broadcaster.emitterFactory = RecordingEmitter::new;
+    }
+
+    @Test
+    @DisplayName("Should push a change only to the subscribers whose filters match")
+    void shouldFilterSubscribers() {
+        EventSnapshot concert = snapshot(music, EventStatus.active);
+        RecordingEmitter byEvent = subscribe(List.of(concert.eventId()), null);
+        RecordingEmitter byOtherCategory = subscribe(List.of(), UUID.randomUUID());
+        flush();
+
+        broadcaster.onEventChange(EventChange.statusChanged(concert, concert.withStatus(EventStatus.full)));
+        flush();
+
+        assertThat(byEvent.notifications()).extracting(EventNotification::getStatus).containsExactly("full");
+        assertThat(byEvent.notifications().get(0).getPreviousStatus()).isEqualTo("active");
+        assertThat(byOtherCategory.notifications()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest notifications of a slow subscriber and report how many were missed")
+    void shouldDropOldest() {
+        RecordingEmitter slow = subscribe(List.of(), music);
+        flush();
+
+        List<EventSnapshot> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            EventSnapshot event = snapshot(music, EventStatus.active);
+            events.add(event);
+            broadcaster.onEventChange(EventChange.created(event));
+        }
+        flush();
+
+        assertThat(slow.notifications()).extracting(EventNotification::getEventId)
+                .containsExactly(events.get(3).eventId(), events.get(4).eventId());
+        assertThat(slow.dropped).containsExactly(3);
+        assertThat(broadcaster.stats().getDroppedCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers beyond the limit and forget those that went away")
+    void shouldBoundSubscribers() {
+        RecordingEmitter gone = subscribe(List.of(), null);
+        subscribe(List.of(), null);
+
+        assertThat(broadcaster.subscribe(List.of(), null)).isEmpty();
+
+        gone.failing = true;
+        flush();
+        assertThat(broadcaster.stats().getSubscribers()).isEqualTo(1);
+        assertThat(broadcaster.subscribe(List.of(), null)).isPresent();
+    }
+
+    private RecordingEmitter subscribe(List<UUID> eventIds, UUID categoryId) {
+        return (RecordingEmitter) broadcaster.subscribe(eventIds, categoryId).orElseThrow();
+    }
+
+    private void flush() {
+        while (!pendingSends.isEmpty()) {
+            pendingSends.remove(0).run();
+        }
+    }
+
+    private static EventSnapshot snapshot(UUID categoryId, EventStatus status) {
+        LocalDate start = LocalDate.now().plusDays(7);
+        return new EventSnapshot(UUID.randomUUID(), "Event", null, "Paris", null, null,
+                categoryId, null, status, start, start);
+    }
+
+    /**
+     * Emitter keeping what would have been written to the response
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<Object> data = new ArrayList<>();
+        private final List<Integer> dropped = new ArrayList<>();
+        private boolean failing;
+
+        private RecordingEmitter(Long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            Set<DataWithMediaType> parts = builder.build();
+            boolean droppedEvent = parts.stream().anyMatch(part -> String.valueOf(part.getData()).contains("event:dropped"));
+            for (DataWithMediaType part : parts) {
+                if (part.getData() instanceof Integer count && droppedEvent) {
+                    dropped.add(count);
+                } else if (!(part.getData() instanceof String)) {
+                    data.add(part.getData());
+                }
+            }
+        }
+
+        private List<EventNotification> notifications() {
+            return data.stream().map(EventNotification.class::cast).toList();
+        }
+    }
+}